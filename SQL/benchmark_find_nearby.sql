@@ -0,0 +1,59 @@
+use posthere;
+
+-- =====================================================================
+-- findNearby(기존) vs findNearbyBounded(MBR 선필터) 지연 시간 비교
+-- - find 테이블에 100만 건을 시드한 뒤 같은 좌표/사용자로 두 쿼리를 EXPLAIN ANALYZE 합니다.
+-- - 시드 행은 content_capture_url = 'bench://seed' 로 표시하고 마지막에 삭제합니다.
+-- - dummy_data_final.sql 적재 후, migration.sql 의 인덱스가 적용된 상태에서 실행하세요.
+-- =====================================================================
+
+SET @bench_user = 1;                 -- 팔로워(조회 주체)
+SET @lat = 37.5107072;               -- 조회 좌표(강남 일대)
+SET @lng = 127.0597532;
+SET @radius = 200;
+SET @d_lat = @radius / (PI() * 6370986 / 180);
+SET @d_lng = @d_lat / COS(RADIANS(@lat));
+SET @max_user = (SELECT MAX(user_info_pk) FROM user_info);
+
+-- 1) 시드: 서울 전역에 100만 건, 절반은 만료
+SET SESSION cte_max_recursion_depth = 1000000;
+INSERT INTO find (writer_id, coordinates, content_capture_url, created_at, expiration_date, content_overwrite_url)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000000)
+SELECT 1 + (n % @max_user),
+       ST_SRID(POINT(126.80 + RAND() * 0.40, 37.45 + RAND() * 0.25), 4326),
+       'bench://seed',
+       NOW(),
+       IF(n % 2 = 0, NOW() + INTERVAL 7 DAY, NOW() - INTERVAL 1 DAY),
+       'bench://seed'
+FROM seq;
+
+ANALYZE TABLE find, following;
+
+-- 2) 기존: 팔로우 작성자의 활성 fin'd 전부에 거리 계산 후 HAVING
+EXPLAIN ANALYZE
+SELECT f.find_pk,
+       ST_Distance_Sphere(f.coordinates, ST_SRID(POINT(@lng, @lat), 4326)) AS distanceInMeters
+FROM find f
+         JOIN user_info u ON f.writer_id = u.user_info_pk
+         JOIN following fw ON f.writer_id = fw.followed_id
+WHERE fw.follower_id = @bench_user
+  AND f.expiration_date >= NOW()
+HAVING distanceInMeters <= 200
+ORDER BY distanceInMeters ASC;
+
+-- 3) 신규: MBR 선필터(ix_find_geo) → 정확한 거리
+EXPLAIN ANALYZE
+SELECT f.find_pk,
+       ST_Distance_Sphere(f.coordinates, ST_SRID(POINT(@lng, @lat), 4326)) AS distanceInMeters
+FROM find f
+         JOIN following fw ON fw.followed_id = f.writer_id AND fw.follower_id = @bench_user
+         JOIN user_info u ON f.writer_id = u.user_info_pk
+WHERE MBRContains(
+        ST_SRID(LINESTRING(POINT(@lng - @d_lng, @lat - @d_lat), POINT(@lng + @d_lng, @lat + @d_lat)), 4326),
+        f.coordinates)
+  AND f.expiration_date >= NOW()
+  AND ST_Distance_Sphere(f.coordinates, ST_SRID(POINT(@lng, @lat), 4326)) <= @radius
+ORDER BY distanceInMeters ASC;
+
+-- 4) 정리
+DELETE FROM find WHERE content_capture_url = 'bench://seed';
@@ -0,0 +1,133 @@
+use posthere;
+
+-- =====================================================================
+-- schema.sql 로 이미 생성된 DB에 적용하는 변경분 (위에서부터 순서대로 적용)
+-- =====================================================================
+
+-- [find 반경 조회] bounding-box 선필터 쿼리용 인덱스
+-- - following(follower_id, followed_id) 복합 인덱스는 uk_follow_pair 로 이미 존재
+ALTER TABLE find
+    ADD KEY ix_find_expiration (expiration_date);
+
+-- [FIND_FOUND 알림 중복 방지] 인스턴스 간 공유용 발송 기록 (custom.find.notify-dedupe.persistent=true 일 때 사용)
+CREATE TABLE find_notification_log (
+  find_notification_log_pk BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  user_id     BIGINT UNSIGNED NOT NULL,
+  find_id     BIGINT UNSIGNED NOT NULL,
+  notified_at TIMESTAMP NOT NULL,
+  CONSTRAINT fk_findnotif_user
+    FOREIGN KEY (user_id) REFERENCES user_info(user_info_pk)
+    ON DELETE CASCADE,
+  CONSTRAINT fk_findnotif_find
+    FOREIGN KEY (find_id) REFERENCES find(find_pk)
+    ON DELETE CASCADE,
+  UNIQUE KEY uk_findnotif_pair (user_id, find_id),
+  KEY ix_findnotif_notified (notified_at)
+);
+
+-- [역지오코딩 캐시] geohash 셀 → 주소
+CREATE TABLE geocode_cache (
+  cell       VARCHAR(12) PRIMARY KEY,
+  address    VARCHAR(255) NOT NULL,
+  updated_at TIMESTAMP NOT NULL
+);
+
+-- [만료 fin'd 정리] archive 모드에서 옮겨 둘 테이블 (custom.find.sweeper.archive=true)
+CREATE TABLE find_archive (
+  find_pk               BIGINT UNSIGNED PRIMARY KEY,
+  writer_id             BIGINT UNSIGNED NOT NULL,
+  coordinates           POINT NOT NULL SRID 4326,
+  content_capture_url   VARCHAR(500) NOT NULL,
+  content_overwrite_url VARCHAR(500) NOT NULL,
+  created_at            TIMESTAMP NOT NULL,
+  expiration_date       TIMESTAMP NOT NULL,
+  archived_at           TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  KEY ix_find_archive_writer (writer_id)
+);
+
+-- [fin'd 생성 시 근처 팔로워 알림] 사용자별 마지막 위치
+CREATE TABLE user_last_location (
+  user_id     BIGINT UNSIGNED PRIMARY KEY,
+  coordinates POINT NOT NULL SRID 4326,
+  updated_at  TIMESTAMP NOT NULL,
+  CONSTRAINT fk_last_location_user
+    FOREIGN KEY (user_id) REFERENCES user_info(user_info_pk)
+    ON DELETE CASCADE,
+  SPATIAL INDEX ix_last_location_geo (coordinates)
+);
+
+-- [fin'd 덧쓰기 타일 저장] 버전별 타일 매니페스트 (타일 객체: overwrite-tiles/{find_id}/{hash}.png)
+CREATE TABLE find_overwrite_version (
+  find_overwrite_version_pk BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  find_id                   BIGINT UNSIGNED NOT NULL,
+  version                   INT NOT NULL,
+  width                     INT NOT NULL,
+  height                    INT NOT NULL,
+  tile_size                 INT NOT NULL,
+  tiles                     TEXT NOT NULL,
+  created_at                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  UNIQUE KEY uk_find_overwrite_version (find_id, version)
+);
+
+-- [fin'd 주소] 작성 시 역지오코딩한 주소 (기존 행은 FindAddressBackfill 이 채움)
+ALTER TABLE find
+  ADD COLUMN address VARCHAR(255) NULL AFTER content_overwrite_url,
+  ADD COLUMN address_checked_at TIMESTAMP NULL AFTER address;
+ALTER TABLE find_archive
+  ADD COLUMN address VARCHAR(255) NULL AFTER content_overwrite_url;
+
+-- [포럼 카운터] 좋아요/댓글 수 역정규화 (이후 어긋남은 ForumCounterReconciler 가 보정)
+ALTER TABLE forum
+  ADD COLUMN like_count    INT NOT NULL DEFAULT 0,
+  ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+UPDATE forum f
+   SET f.like_count = (SELECT COUNT(*) FROM forum_like l WHERE l.forum_id = f.forum_pk),
+       f.comment_count = (SELECT COUNT(*) FROM forum_comment c WHERE c.forum_id = f.forum_pk);
+
+-- [포럼 지역 목록 키셋 페이지] (location, created_at DESC, forum_pk DESC) 순서 조회용
+ALTER TABLE forum
+  ADD KEY ix_forum_location_created (location, created_at, forum_pk);
+
+-- [포럼 홈 타임라인] 팔로워별 타임라인 (ForumTimelineService 가 게시글 작성 시 나눠 넣음)
+CREATE TABLE timeline (
+  timeline_pk BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  owner_id    BIGINT UNSIGNED NOT NULL,
+  forum_id    BIGINT UNSIGNED NOT NULL,
+  writer_id   BIGINT UNSIGNED NOT NULL,
+  created_at  TIMESTAMP NOT NULL,
+  CONSTRAINT fk_timeline_owner
+    FOREIGN KEY (owner_id) REFERENCES user_info(user_info_pk)
+    ON DELETE CASCADE,
+  CONSTRAINT fk_timeline_forum
+    FOREIGN KEY (forum_id) REFERENCES forum(forum_pk)
+    ON DELETE CASCADE,
+  UNIQUE KEY uk_timeline_owner_forum (owner_id, forum_id),
+  KEY ix_timeline_owner_created (owner_id, created_at, forum_id),
+  KEY ix_timeline_owner_writer (owner_id, writer_id),
+  KEY ix_timeline_created (created_at)
+);
+
+-- 팔로워가 많은 작성자의 글을 읽을 때 직접 가져오기(fan-out-on-read)/타임라인 재구성용
+ALTER TABLE forum
+  ADD KEY ix_forum_writer_created (writer_id, created_at, forum_pk);
+
+-- 기존 게시글로 타임라인 채우기: 사용자별 본인 + 팔로우 중인 작성자의 최근 글 1000건 (custom.forum.timeline.rebuild-size)
+-- (이 단계를 건너뛰어도 비어 있는 사용자는 피드를 열 때 forum 에서 직접 읽고 그 사용자만 재구성됨)
+INSERT IGNORE INTO timeline (owner_id, forum_id, writer_id, created_at)
+SELECT t.owner_id, t.forum_pk, t.writer_id, t.created_at
+FROM (
+  SELECT o.owner_id, p.forum_pk, p.writer_id, p.created_at,
+         ROW_NUMBER() OVER (PARTITION BY o.owner_id ORDER BY p.created_at DESC, p.forum_pk DESC) AS rn
+  FROM (
+    SELECT user_info_pk AS owner_id, user_info_pk AS writer_id FROM user_info
+    UNION
+    SELECT follower_id, followed_id FROM following
+  ) o
+  JOIN forum p ON p.writer_id = o.writer_id
+) t
+WHERE t.rn <= 1000;
+
+-- [포럼 최근 좋아요 3명] 게시글별 최신순 조회용 (ForumRecentLikers 버퍼 채우기)
+ALTER TABLE forum_like
+  ADD KEY ix_like_forum_created (forum_id, created_at, forum_like_pk);
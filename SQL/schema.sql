@@ -57,11 +57,15 @@ CREATE TABLE forum (
   writer_id      BIGINT UNSIGNED NOT NULL,
   location       BIGINT UNSIGNED NOT NULL,
   contents_text  TEXT NOT NULL,
+  like_count     INT NOT NULL DEFAULT 0,
+  comment_count  INT NOT NULL DEFAULT 0,
   CONSTRAINT fk_forum_writer
     FOREIGN KEY (writer_id) REFERENCES user_info(user_info_pk)
     ON DELETE CASCADE,
   CONSTRAINT fk_forum_location
-	FOREIGN KEY (location) REFERENCES forum_area(forum_area_pk)
+	FOREIGN KEY (location) REFERENCES forum_area(forum_area_pk),
+  KEY ix_forum_location_created (location, created_at, forum_pk),
+  KEY ix_forum_writer_created (writer_id, created_at, forum_pk)
 );
 
 CREATE TABLE forum_img (
@@ -86,7 +90,8 @@ CREATE TABLE forum_like (
     FOREIGN KEY (forum_liker_id) REFERENCES user_info(user_info_pk)
     ON DELETE CASCADE,
   UNIQUE KEY uk_like_unique (forum_id, forum_liker_id),
-  KEY ix_like_user (forum_liker_id)
+  KEY ix_like_user (forum_liker_id),
+  KEY ix_like_forum_created (forum_id, created_at, forum_like_pk)
 );
 
 
@@ -113,10 +118,13 @@ CREATE TABLE find (
   created_at            TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
   expiration_date       TIMESTAMP NOT NULL,
   content_overwrite_url VARCHAR(500) NOT NULL,
+  address               VARCHAR(255) NULL,
+  address_checked_at    TIMESTAMP NULL,
   CONSTRAINT fk_find_writer
     FOREIGN KEY (writer_id) REFERENCES user_info(user_info_pk)
     ON DELETE CASCADE,
   KEY ix_find_writer (writer_id),
+  KEY ix_find_expiration (expiration_date),
   SPATIAL INDEX ix_find_geo (coordinates)
 );
 
@@ -158,3 +166,77 @@ CREATE TABLE notification (
   INDEX ix_notif_target_unread (target_user_id, check_status, created_at DESC, notification_pk DESC),
   INDEX ix_notif_target_created (target_user_id, created_at DESC, notification_pk DESC)
 );
+
+CREATE TABLE find_notification_log (
+  find_notification_log_pk BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  user_id     BIGINT UNSIGNED NOT NULL,
+  find_id     BIGINT UNSIGNED NOT NULL,
+  notified_at TIMESTAMP NOT NULL,
+  CONSTRAINT fk_findnotif_user
+    FOREIGN KEY (user_id) REFERENCES user_info(user_info_pk)
+    ON DELETE CASCADE,
+  CONSTRAINT fk_findnotif_find
+    FOREIGN KEY (find_id) REFERENCES find(find_pk)
+    ON DELETE CASCADE,
+  UNIQUE KEY uk_findnotif_pair (user_id, find_id),
+  KEY ix_findnotif_notified (notified_at)
+);
+
+CREATE TABLE geocode_cache (
+  cell       VARCHAR(12) PRIMARY KEY,
+  address    VARCHAR(255) NOT NULL,
+  updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE find_archive (
+  find_pk               BIGINT UNSIGNED PRIMARY KEY,
+  writer_id             BIGINT UNSIGNED NOT NULL,
+  coordinates           POINT NOT NULL SRID 4326,
+  content_capture_url   VARCHAR(500) NOT NULL,
+  content_overwrite_url VARCHAR(500) NOT NULL,
+  address               VARCHAR(255) NULL,
+  created_at            TIMESTAMP NOT NULL,
+  expiration_date       TIMESTAMP NOT NULL,
+  archived_at           TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  KEY ix_find_archive_writer (writer_id)
+);
+
+CREATE TABLE user_last_location (
+  user_id     BIGINT UNSIGNED PRIMARY KEY,
+  coordinates POINT NOT NULL SRID 4326,
+  updated_at  TIMESTAMP NOT NULL,
+  CONSTRAINT fk_last_location_user
+    FOREIGN KEY (user_id) REFERENCES user_info(user_info_pk)
+    ON DELETE CASCADE,
+  SPATIAL INDEX ix_last_location_geo (coordinates)
+);
+
+CREATE TABLE find_overwrite_version (
+  find_overwrite_version_pk BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  find_id                   BIGINT UNSIGNED NOT NULL,
+  version                   INT NOT NULL,
+  width                     INT NOT NULL,
+  height                    INT NOT NULL,
+  tile_size                 INT NOT NULL,
+  tiles                     TEXT NOT NULL,
+  created_at                TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  UNIQUE KEY uk_find_overwrite_version (find_id, version)
+);
+
+CREATE TABLE timeline (
+  timeline_pk BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  owner_id    BIGINT UNSIGNED NOT NULL,
+  forum_id    BIGINT UNSIGNED NOT NULL,
+  writer_id   BIGINT UNSIGNED NOT NULL,
+  created_at  TIMESTAMP NOT NULL,
+  CONSTRAINT fk_timeline_owner
+    FOREIGN KEY (owner_id) REFERENCES user_info(user_info_pk)
+    ON DELETE CASCADE,
+  CONSTRAINT fk_timeline_forum
+    FOREIGN KEY (forum_id) REFERENCES forum(forum_pk)
+    ON DELETE CASCADE,
+  UNIQUE KEY uk_timeline_owner_forum (owner_id, forum_id),
+  KEY ix_timeline_owner_created (owner_id, created_at, forum_id),
+  KEY ix_timeline_owner_writer (owner_id, writer_id),
+  KEY ix_timeline_created (created_at)
+);
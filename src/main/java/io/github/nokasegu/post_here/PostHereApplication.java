@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @ConfigurationPropertiesScan //  @ConfigurationProperties 클래스들을 자동 스캔해서 빈으로 등록하기 위함
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling // FindGeoIndex 재적재/만료 제거 등 주기 작업
 public class PostHereApplication {
 
     public static void main(String[] args) {
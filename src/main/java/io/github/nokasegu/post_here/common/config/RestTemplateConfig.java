@@ -0,0 +1,34 @@
+package io.github.nokasegu.post_here.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 공용 RestTemplate
+ * - JDK HttpClient 는 내부에서 커넥션을 풀링/재사용하므로 하나를 만들어 공유합니다.
+ * - 연결/응답 타임아웃을 걸어 외부 API 지연이 요청 스레드를 붙잡지 않도록 합니다.
+ */
+@Configuration
+public class RestTemplateConfig {
+
+    @Bean
+    public RestTemplate externalRestTemplate(
+            @Value("${custom.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${custom.http.read-timeout-ms:3000}") long readTimeoutMs) {
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return new RestTemplate(requestFactory);
+    }
+}
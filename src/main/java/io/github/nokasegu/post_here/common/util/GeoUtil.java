@@ -0,0 +1,113 @@
+package io.github.nokasegu.post_here.common.util;
+
+/**
+ * 좌표 계산 유틸리티
+ * <p>
+ * - 거리 계산은 MySQL ST_Distance_Sphere와 같은 구면 반지름(6,370,986m)을 사용해
+ * DB 쿼리 결과와 인메모리 계산 결과가 어긋나지 않도록 맞춥니다.
+ */
+public final class GeoUtil {
+
+    // MySQL ST_Distance_Sphere 기본 반지름
+    public static final double EARTH_RADIUS_METERS = 6_370_986.0;
+
+    // 위도 1도의 길이(m)
+    public static final double METERS_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    private GeoUtil() {
+    }
+
+    /**
+     * 두 좌표 사이의 구면 거리(m)를 반환합니다. (haversine)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경(m)을 위도 차(도)로 환산합니다.
+     */
+    public static double latDelta(double radiusMeters) {
+        return radiusMeters / METERS_PER_DEGREE_LAT;
+    }
+
+    /**
+     * 주어진 위도에서 반경(m)을 경도 차(도)로 환산합니다.
+     */
+    public static double lngDelta(double lat, double radiusMeters) {
+        double cos = Math.cos(Math.toRadians(lat));
+        if (cos < 1e-6) return 180.0;
+        return radiusMeters / (METERS_PER_DEGREE_LAT * cos);
+    }
+
+    private static final String GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    /**
+     * 좌표를 geohash 문자열로 변환합니다. (precision 7 ≒ 153m × 153m 셀)
+     */
+    public static String geohash(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder sb = new StringBuilder(precision);
+        boolean even = true;
+        int bit = 0, ch = 0;
+
+        while (sb.length() < precision) {
+            if (even) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            even = !even;
+            if (++bit == 5) {
+                sb.append(GEOHASH_BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * geohash 셀의 중심 좌표를 {lat, lng} 로 반환합니다.
+     */
+    public static double[] geohashCenter(String geohash) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        boolean even = true;
+
+        for (int i = 0; i < geohash.length(); i++) {
+            int cd = GEOHASH_BASE32.indexOf(geohash.charAt(i));
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                if (even) {
+                    double mid = (minLng + maxLng) / 2;
+                    if ((cd & mask) != 0) minLng = mid;
+                    else maxLng = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if ((cd & mask) != 0) minLat = mid;
+                    else maxLat = mid;
+                }
+                even = !even;
+            }
+        }
+        return new double[]{(minLat + maxLat) / 2, (minLng + maxLng) / 2};
+    }
+}
@@ -3,9 +3,11 @@ package io.github.nokasegu.post_here.common.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -16,16 +18,18 @@ import java.util.List;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class GeocodingUtil {
 
     private static final String API_URL = "https://maps.googleapis.com/maps/api/geocode/json";
     @Value("${google.maps.api.key}")
     private String API_KEY;
 
-    public String getAddressFromCoordinates(double longitude, double latitude) {
+    // 공용 풀링 클라이언트(타임아웃 설정 포함, RestTemplateConfig)
+    private final RestTemplate externalRestTemplate;
+    private final ObjectMapper objectMapper;
 
-        RestTemplate restTemplate = new RestTemplate();
-        ObjectMapper objectMapper = new ObjectMapper();
+    public String getAddressFromCoordinates(double longitude, double latitude) {
 
         URI uri = UriComponentsBuilder
                 .fromUriString(API_URL)
@@ -36,7 +40,13 @@ public class GeocodingUtil {
                 .toUri();
 
         log.info("URL {}", uri);
-        String response = restTemplate.getForObject(uri, String.class);
+        String response;
+        try {
+            response = externalRestTemplate.getForObject(uri, String.class);
+        } catch (RestClientException e) {
+            log.info("Google API 호출 실패 {}", e.getMessage());
+            return null;
+        }
         if (response == null) {
             log.info("Google API로부터 응답을 받지 못했습니다.");
             return null;
@@ -1,18 +1,33 @@
 package io.github.nokasegu.post_here.common.util;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
@@ -30,19 +45,106 @@ public class S3UploaderService {
     private String defaultProfileImageUrl;
 
 
+    // DeleteObjects 요청당 최대 키 수(S3 제한)
+    private static final int DELETE_BATCH = 1000;
+
+    // 업로드 전용 스레드 (DB 작업과 업로드를 겹쳐 수행할 때 사용)
+    private final ExecutorService uploadExecutor = Executors.newFixedThreadPool(4, r -> {
+        Thread t = new Thread(r, "s3-upload");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
     // MultipartFile을 전달받아 S3에 업로드하고 URL을 반환합니다.
     public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-        String fileName = dirName + "/" + UUID.randomUUID() + "_" + multipartFile.getOriginalFilename();
+        String fileUrl = reserveUrl(dirName, multipartFile.getOriginalFilename());
+        uploadTo(multipartFile, fileUrl);
+        return fileUrl;
+    }
+
+    /**
+     * 업로드할 객체의 URL을 미리 만들어 반환합니다. (실제 업로드는 uploadTo / uploadAsync)
+     */
+    public String reserveUrl(String dirName, String originalFilename) {
+        return urlOf(dirName + "/" + UUID.randomUUID() + "_" + originalFilename);
+    }
 
+    /**
+     * 미리 만든 URL 위치로 업로드합니다.
+     * - 파일 전체를 byte[] 로 올리지 않고 스트림으로 전송합니다.
+     */
+    public void uploadTo(MultipartFile multipartFile, String fileUrl) throws IOException {
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucket)
-                .key(fileName)
+                .key(keyOf(fileUrl))
                 .contentType(multipartFile.getContentType())
                 .acl(ObjectCannedACL.PUBLIC_READ)
                 .build();
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(multipartFile.getBytes()));
-        return "https://" + bucket + ".s3.ap-northeast-2.amazonaws.com/" + fileName;
+        try (InputStream in = multipartFile.getInputStream()) {
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(in, multipartFile.getSize()));
+        }
+    }
+
+    /**
+     * uploadTo 를 업로드 전용 스레드에서 수행합니다.
+     * - 호출부는 완료를 기다린(join) 뒤에 요청을 끝내야 합니다. (MultipartFile 임시 파일 수명)
+     */
+    public CompletableFuture<Void> uploadAsync(MultipartFile multipartFile, String fileUrl) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                uploadTo(multipartFile, fileUrl);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, uploadExecutor);
+    }
+
+    /**
+     * 메모리의 바이트 배열을 지정한 URL 위치로 업로드합니다. (서버에서 만든 작은 객체용)
+     */
+    public void uploadBytes(byte[] bytes, String contentType, String fileUrl) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(keyOf(fileUrl))
+                .contentType(contentType)
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+    }
+
+    /**
+     * 객체 전체를 내려받습니다.
+     */
+    public byte[] download(String fileUrl) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(keyOf(fileUrl))
+                .build();
+
+        ResponseBytes<GetObjectResponse> response = s3Client.getObjectAsBytes(getObjectRequest);
+        return response.asByteArray();
+    }
+
+    /**
+     * S3 서버 측 복사 (데이터를 다시 전송하지 않음)
+     */
+    public void copy(String sourceUrl, String targetUrl) {
+        CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(keyOf(sourceUrl))
+                .destinationBucket(bucket)
+                .destinationKey(keyOf(targetUrl))
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+
+        s3Client.copyObject(copyObjectRequest);
     }
 
     /**
@@ -51,17 +153,61 @@ public class S3UploaderService {
      * @param fileUrl 삭제할 파일의 전체 URL
      */
     public void delete(String fileUrl) {
-        // URL에서 파일 키(파일 경로와 이름)를 추출
-        String key = fileUrl.substring(fileUrl.indexOf(".com/") + 5);
-
         DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
                 .bucket(bucket)
-                .key(key)
+                .key(keyOf(fileUrl))
                 .build();
 
         s3Client.deleteObject(deleteObjectRequest);
     }
 
+    /**
+     * 여러 파일을 DeleteObjects 로 한 번에 삭제합니다. (요청당 최대 1,000개)
+     *
+     * @return 삭제에 실패한 키 개수
+     */
+    public int deleteAll(List<String> fileUrls) {
+        int failed = 0;
+        for (int from = 0; from < fileUrls.size(); from += DELETE_BATCH) {
+            List<ObjectIdentifier> objects = fileUrls.subList(from, Math.min(from + DELETE_BATCH, fileUrls.size()))
+                    .stream()
+                    .map(url -> ObjectIdentifier.builder().key(keyOf(url)).build())
+                    .toList();
+
+            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build();
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(deleteObjectsRequest);
+            if (response.hasErrors()) {
+                failed += response.errors().size();
+                response.errors().forEach(err ->
+                        log.warn("S3 삭제 실패 key={} code={} msg={}", err.key(), err.code(), err.message()));
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 버킷 내 키 → 공개 URL
+     */
+    public String urlOf(String key) {
+        return "https://" + bucket + ".s3.ap-northeast-2.amazonaws.com/" + key;
+    }
+
+    /**
+     * 이 버킷의 객체 URL 인지 (앱 내부 경로 등은 false)
+     */
+    public boolean isObjectUrl(String fileUrl) {
+        return fileUrl != null && fileUrl.startsWith("https://" + bucket + ".");
+    }
+
+    // URL에서 파일 키(파일 경로와 이름)를 추출
+    private String keyOf(String fileUrl) {
+        return fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+    }
+
     // 기본 이미지 URL을 반환하는 메서드를 추가합니다.
     public String getDefaultProfileImage() {
         return defaultProfileImageUrl;
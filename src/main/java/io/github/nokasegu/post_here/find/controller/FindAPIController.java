@@ -2,10 +2,17 @@ package io.github.nokasegu.post_here.find.controller;
 
 import io.github.nokasegu.post_here.common.dto.WrapperDTO;
 import io.github.nokasegu.post_here.common.exception.Code;
+import io.github.nokasegu.post_here.common.security.CustomUserDetails;
+import io.github.nokasegu.post_here.find.dto.FindClusterDto;
+import io.github.nokasegu.post_here.find.dto.FindFeedPageDto;
+import io.github.nokasegu.post_here.find.dto.FindGeofenceSetDto;
 import io.github.nokasegu.post_here.find.dto.FindNearbyResponseDto;
 import io.github.nokasegu.post_here.find.dto.FindPostSummaryDto;
 import io.github.nokasegu.post_here.find.dto.FindRequestDto;
+import io.github.nokasegu.post_here.find.service.FindGeofenceService;
+import io.github.nokasegu.post_here.find.service.FindOverwriteService;
 import io.github.nokasegu.post_here.find.service.FindService;
+import io.github.nokasegu.post_here.find.service.FindTileClusterService;
 import io.github.nokasegu.post_here.location.dto.LocationRequestDto;
 import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
 import io.github.nokasegu.post_here.userInfo.service.UserInfoService;
@@ -14,12 +21,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 @Slf4j
@@ -28,6 +38,9 @@ import java.util.List;
 public class FindAPIController {
 
     private final FindService findService;
+    private final FindGeofenceService findGeofenceService;
+    private final FindTileClusterService findTileClusterService;
+    private final FindOverwriteService findOverwriteService;
     private final UserInfoService userInfoService;
 
     // 미사용으로 추정
@@ -69,6 +82,78 @@ public class FindAPIController {
         findService.updateFind(no, findRequestDto.getContent_capture());
     }
 
+    /**
+     * 덧쓰기 이미지 (버전별 타일 합성본, 버전 내용은 바뀌지 않으므로 브라우저 캐시 허용)
+     */
+    @GetMapping("/find/{findId}/overwrite/{version}")
+    public ResponseEntity<byte[]> getOverwriteImage(@PathVariable Long findId, @PathVariable int version) throws IOException {
+
+        byte[] png = findOverwriteService.compose(findId, version);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(30)).cachePrivate().immutable())
+                .body(png);
+    }
+
+    /**
+     * Fin'd 뷰어 피드 다음 페이지 (cursor: 이전 응답의 nextCursor)
+     */
+    @GetMapping("/find/feed/{startFindId}/page")
+    public WrapperDTO<FindFeedPageDto> getFindFeedPage(@PathVariable Long startFindId,
+                                                       @RequestParam(required = false) Long cursor,
+                                                       @RequestParam(defaultValue = "10") int size,
+                                                       @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long currentUserId = (userDetails != null) ? userDetails.getUserInfo().getId() : null;
+        FindFeedPageDto page = findService.getFindFeed(startFindId, cursor, size, currentUserId);
+
+        return WrapperDTO.<FindFeedPageDto>builder()
+                .status(Code.OK.getCode())
+                .message(Code.OK.getValue())
+                .data(page)
+                .build();
+    }
+
+    /**
+     * 기기 지오펜스 세트 (since: 이전 응답의 version, 없으면 전체 세트)
+     */
+    @GetMapping("/find/geofences")
+    public WrapperDTO<FindGeofenceSetDto> getGeofences(@RequestParam double lat,
+                                                      @RequestParam double lng,
+                                                      @RequestParam(required = false) Long since,
+                                                      @AuthenticationPrincipal UserDetails userDetails) {
+
+        FindGeofenceSetDto set = findGeofenceService.getGeofences(lng, lat, since, userDetails.getUsername());
+
+        return WrapperDTO.<FindGeofenceSetDto>builder()
+                .status(Code.OK.getCode())
+                .message(Code.OK.getValue())
+                .data(set)
+                .build();
+    }
+
+    /**
+     * 지도 뷰포트의 fin'd 클러스터 (줌이 낮아 마커를 개별로 그리기 어려울 때)
+     */
+    @GetMapping("/find/clusters")
+    public WrapperDTO<List<FindClusterDto>> getClusters(@RequestParam double minLat,
+                                                       @RequestParam double minLng,
+                                                       @RequestParam double maxLat,
+                                                       @RequestParam double maxLng,
+                                                       @RequestParam int zoom,
+                                                       @AuthenticationPrincipal UserDetails userDetails) {
+
+        List<FindClusterDto> clusters = findTileClusterService.getClusters(minLat, minLng, maxLat, maxLng,
+                zoom, userDetails.getUsername());
+
+        return WrapperDTO.<List<FindClusterDto>>builder()
+                .status(Code.OK.getCode())
+                .message(Code.OK.getValue())
+                .data(clusters)
+                .build();
+    }
+
     @PostMapping("/find/around")
     public WrapperDTO<List<FindNearbyResponseDto>> whereAmI(@RequestBody LocationRequestDto location, @AuthenticationPrincipal UserDetails userDetails) {
 
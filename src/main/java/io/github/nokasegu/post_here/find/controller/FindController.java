@@ -2,7 +2,7 @@ package io.github.nokasegu.post_here.find.controller;
 
 import io.github.nokasegu.post_here.common.security.CustomUserDetails;
 import io.github.nokasegu.post_here.find.domain.FindEntity;
-import io.github.nokasegu.post_here.find.dto.FindDetailViewDto;
+import io.github.nokasegu.post_here.find.dto.FindFeedPageDto;
 import io.github.nokasegu.post_here.find.service.FindService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,13 +13,13 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-import java.util.List;
-
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class FindController {
 
+    private static final int FEED_PAGE_SIZE = 10;
+
     private final FindService findService;
 
     //구글 API 키 삽입
@@ -54,11 +54,13 @@ public class FindController {
         // 1. 현재 로그인한 사용자의 ID를 확인합니다. (비로그인 시 null)
         Long currentUserId = (userDetails != null) ? userDetails.getUserInfo().getId() : null;
 
-        // 2. 서비스 로직을 호출하여 피드에 필요한 모든 데이터를 가져옵니다.
-        List<FindDetailViewDto> posts = findService.getFindFeed(startFindId, currentUserId);
+        // 2. 서비스 로직을 호출하여 피드의 첫 페이지만 가져옵니다. (이후 페이지는 스크롤 시 /find/feed/{id}/page)
+        FindFeedPageDto feed = findService.getFindFeed(startFindId, null, FEED_PAGE_SIZE, currentUserId);
 
         // 3. 서비스로부터 받은 데이터를 "posts"라는 이름으로 HTML에게 전달합니다.
-        model.addAttribute("posts", posts);
+        model.addAttribute("posts", feed.getPosts());
+        model.addAttribute("startFindId", startFindId);
+        model.addAttribute("nextCursor", feed.getNextCursor());
 
         // 4. "resources/templates/find/feed.html" 파일을 찾아 화면에 보여줍니다.
         return "find/find-viewer";
@@ -47,6 +47,16 @@ public class FindEntity {
     private String contentOverwriteUrl;
 
 
+    // 작성 시점에 역지오코딩한 주소 (조회 실패/이전 데이터는 null → FindAddressBackfill 이 채움)
+    @Column(name = "address", length = 255)
+    private String address;
+
+
+    // 마지막으로 주소 백필을 시도했는데 주소를 얻지 못한 시각 (retry-days 동안 다시 시도하지 않음)
+    @Column(name = "address_checked_at")
+    private LocalDateTime addressCheckedAt;
+
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
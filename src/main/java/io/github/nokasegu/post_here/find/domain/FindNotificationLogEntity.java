@@ -0,0 +1,37 @@
+package io.github.nokasegu.post_here.find.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * FIND_FOUND 알림 발송 기록 (사용자 × fin'd)
+ * - 여러 인스턴스/재시작 사이에서 "이미 알림 보냄" 상태를 공유하기 위한 테이블입니다.
+ * - 읽기/쓰기는 FindNotificationLogRepository 의 네이티브 쿼리로만 수행합니다.
+ */
+@Entity
+@Table(name = "find_notification_log")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FindNotificationLogEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "find_notification_log_pk")
+    private Long id;
+
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+
+    @Column(name = "find_id", nullable = false)
+    private Long findId;
+
+
+    @Column(name = "notified_at", nullable = false)
+    private LocalDateTime notifiedAt;
+}
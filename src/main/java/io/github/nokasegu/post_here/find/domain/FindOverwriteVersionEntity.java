@@ -0,0 +1,54 @@
+package io.github.nokasegu.post_here.find.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * fin'd 덧쓰기(overwrite) 이미지의 버전별 타일 매니페스트
+ * - 이미지를 tile-size 크기 타일로 나누고, 각 타일을 내용 해시로 저장합니다.
+ * - tiles: 행 우선 순서의 타일 해시 목록(쉼표 구분). 타일 객체는 overwrite-tiles/{findId}/{hash}.png
+ * - 만료 정리 시 find_archive 로 옮겨도 매니페스트를 남길 수 있도록 find 에 FK 를 걸지 않습니다.
+ */
+@Entity
+@Table(name = "find_overwrite_version")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FindOverwriteVersionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "find_overwrite_version_pk")
+    private Long id;
+
+
+    @Column(name = "find_id", nullable = false)
+    private Long findId;
+
+
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+
+    @Column(name = "width", nullable = false)
+    private Integer width;
+
+
+    @Column(name = "height", nullable = false)
+    private Integer height;
+
+
+    @Column(name = "tile_size", nullable = false)
+    private Integer tileSize;
+
+
+    @Column(name = "tiles", nullable = false, columnDefinition = "TEXT")
+    private String tiles;
+
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
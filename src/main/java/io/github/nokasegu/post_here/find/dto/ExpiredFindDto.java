@@ -0,0 +1,15 @@
+package io.github.nokasegu.post_here.find.dto;
+
+/**
+ * 만료 정리 대상 fin'd (네이티브 쿼리 인터페이스 프로젝션)
+ */
+public interface ExpiredFindDto {
+
+    Long getId();
+
+    Long getWriterId();
+
+    String getContentCaptureUrl();
+
+    String getContentOverwriteUrl();
+}
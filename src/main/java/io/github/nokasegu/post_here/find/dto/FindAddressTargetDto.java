@@ -0,0 +1,13 @@
+package io.github.nokasegu.post_here.find.dto;
+
+import org.locationtech.jts.geom.Point;
+
+/**
+ * 주소 백필 대상 fin'd (인터페이스 프로젝션)
+ */
+public interface FindAddressTargetDto {
+
+    Long getId();
+
+    Point getCoordinates();
+}
@@ -0,0 +1,25 @@
+package io.github.nokasegu.post_here.find.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 클러스터 1개
+ * - lat/lng: 묶인 fin'd 들의 중심점
+ * - profileImageUrl: 대표(가장 최근) fin'd 작성자의 프로필 이미지
+ * - findId: count == 1 일 때만 해당 fin'd id (그 외 null)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FindClusterDto {
+
+    private double lat;
+    private double lng;
+    private int count;
+    private String profileImageUrl;
+    private Long findId;
+}
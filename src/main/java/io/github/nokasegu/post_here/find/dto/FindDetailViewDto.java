@@ -7,6 +7,9 @@ import java.time.LocalDateTime;
 
 @Getter
 public class FindDetailViewDto {
+
+    private static final String UNKNOWN_LOCATION = "위치 정보 없음";
+
     private Long id;
     private String writerNickname;
     private String writerProfilePhotoUrl;
@@ -20,7 +23,7 @@ public class FindDetailViewDto {
         this.writerNickname = entity.getWriter().getNickname();
         this.writerProfilePhotoUrl = entity.getWriter().getProfilePhotoUrl();
         this.contentCaptureUrl = entity.getContentCaptureUrl();
-        this.locationName = "서울시 강남구"; // TODO: 좌표를 주소로 변환하는 로직 필요
+        this.locationName = locationNameOf(entity);
         this.createdAt = entity.getCreatedAt();
 
         if (currentUserId != null) {
@@ -29,5 +32,9 @@ public class FindDetailViewDto {
             this.isAuthor = false;
         }
     }
-}
 
+    // 작성 시 저장한 주소 (아직 채워지지 않았으면 기본 문구)
+    public static String locationNameOf(FindEntity entity) {
+        return entity.getAddress() != null ? entity.getAddress() : UNKNOWN_LOCATION;
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.nokasegu.post_here.find.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Fin'd 뷰어 피드 한 페이지
+ * - nextCursor: 다음 페이지 요청 시 cursor 로 넘길 값 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+public class FindFeedPageDto {
+    private List<FindDetailViewDto> posts;
+    private Long nextCursor;
+}
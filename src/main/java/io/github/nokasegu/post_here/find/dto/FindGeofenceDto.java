@@ -0,0 +1,25 @@
+package io.github.nokasegu.post_here.find.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기기 지오펜스 1개
+ * - id: find_pk (exit 펜스는 null)
+ * - radius: 진입 판정 반경(m)
+ * - expiresAt: 만료 시각(epoch ms), 지나면 기기에서 해제
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FindGeofenceDto {
+
+    private Long id;
+    private double lat;
+    private double lng;
+    private double radius;
+    private Long expiresAt;
+}
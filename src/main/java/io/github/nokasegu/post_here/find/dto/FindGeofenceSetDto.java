@@ -0,0 +1,25 @@
+package io.github.nokasegu.post_here.find.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * /find/geofences 응답
+ * - version: 이 세트의 버전 (다음 요청의 since 로 사용)
+ * - full: true 면 fences 가 전체 세트(기존 펜스를 모두 교체), false 면 since 대비 변경분
+ * - fences: 추가/변경된 펜스 (full 이면 전체)
+ * - removed: 해제할 펜스 id (full 이면 비어 있음)
+ * - exitFence: 이 영역을 벗어나면 세트를 다시 요청
+ */
+@Builder
+@Data
+public class FindGeofenceSetDto {
+
+    private long version;
+    private boolean full;
+    private List<FindGeofenceDto> fences;
+    private List<Long> removed;
+    private FindGeofenceDto exitFence;
+}
@@ -0,0 +1,24 @@
+package io.github.nokasegu.post_here.find.dto;
+
+import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 위치 틱 1회 평가 결과 (FindService.evaluateTick)
+ * - markers: 200m 이내 마커 (region 1 = 50m 이내 열람 가능)
+ * - nearestFindMeters: 가장 가까운 팔로우 작성자 fin'd 까지 거리 (모르면 NaN, 없으면 POSITIVE_INFINITY)
+ * - readable: 50m 이내 열람 가능 목록 (FIND_FOUND 알림 단계로 넘김)
+ * - user: 알림 단계로 넘길 사용자 (응답에는 쓰지 않음)
+ */
+@Builder
+@Data
+public class FindTickDto {
+
+    private UserInfoEntity user;
+    private List<FindNearbyResponseDto> markers;
+    private double nearestFindMeters;
+    private List<FindNearbyReadableOnlyDto> readable;
+}
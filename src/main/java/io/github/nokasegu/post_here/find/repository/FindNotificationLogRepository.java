@@ -0,0 +1,60 @@
+package io.github.nokasegu.post_here.find.repository;
+
+import io.github.nokasegu.post_here.find.domain.FindNotificationLogEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * FIND_FOUND 알림 발송 기록 저장소
+ * <p>
+ * - 선점(claim)은 두 단계로 수행합니다.
+ * 1) insertIfAbsent: 기록이 없으면 삽입 (영향 행 1 = 선점 성공)
+ * 2) renewIfExpired: 기록이 있지만 중복 방지 구간이 지났으면 갱신 (영향 행 1 = 선점 성공)
+ * - 두 쿼리 모두 행 단위로 원자적이므로 여러 인스턴스가 동시에 시도해도 한 곳만 성공합니다.
+ * - 호출부(FindNotificationDedupe)는 트랜잭션 밖에서 호출하므로 메서드마다 짧은 트랜잭션을 겁니다.
+ */
+@Repository
+public interface FindNotificationLogRepository extends JpaRepository<FindNotificationLogEntity, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO find_notification_log (user_id, find_id, notified_at)
+            VALUES (:userId, :findId, :now)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("findId") Long findId,
+                       @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE find_notification_log
+               SET notified_at = :now
+             WHERE user_id = :userId
+               AND find_id = :findId
+               AND notified_at < :cutoff
+            """, nativeQuery = true)
+    int renewIfExpired(@Param("userId") Long userId,
+                       @Param("findId") Long findId,
+                       @Param("now") LocalDateTime now,
+                       @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 중복 방지 구간이 지난 기록을 limit 건씩 삭제 (정리 작업용)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM find_notification_log
+             WHERE notified_at < :cutoff
+             LIMIT :limit
+            """, nativeQuery = true)
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
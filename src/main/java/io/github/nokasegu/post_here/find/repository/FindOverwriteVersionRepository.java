@@ -0,0 +1,32 @@
+package io.github.nokasegu.post_here.find.repository;
+
+import io.github.nokasegu.post_here.find.domain.FindOverwriteVersionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FindOverwriteVersionRepository extends JpaRepository<FindOverwriteVersionEntity, Long> {
+
+    Optional<FindOverwriteVersionEntity> findTopByFindIdOrderByVersionDesc(Long findId);
+
+    Optional<FindOverwriteVersionEntity> findByFindIdAndVersion(Long findId, Integer version);
+
+    /**
+     * 여러 fin'd 의 모든 버전 매니페스트 [findId, tiles] (만료 정리 시 타일 객체 삭제용)
+     */
+    @Query("SELECT v.findId, v.tiles FROM FindOverwriteVersionEntity v WHERE v.findId IN :findIds")
+    List<Object[]> findTilesByFindIds(@Param("findIds") Collection<Long> findIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM find_overwrite_version WHERE find_id IN (:findIds)", nativeQuery = true)
+    int deleteByFindIds(@Param("findIds") Collection<Long> findIds);
+}
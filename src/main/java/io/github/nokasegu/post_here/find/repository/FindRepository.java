@@ -1,22 +1,34 @@
 package io.github.nokasegu.post_here.find.repository;
 
 import io.github.nokasegu.post_here.find.domain.FindEntity;
+import io.github.nokasegu.post_here.find.dto.ExpiredFindDto;
+import io.github.nokasegu.post_here.find.dto.FindAddressTargetDto;
 import io.github.nokasegu.post_here.find.dto.FindNearbyDto;
 import io.github.nokasegu.post_here.find.dto.FindNearbyReadableOnlyDto;
 import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FindRepository extends JpaRepository<FindEntity, Long> {
 
+    // 덧쓰기 저장: 같은 fin'd 의 버전 번호 계산을 직렬화 (SELECT ... FOR UPDATE, 트랜잭션 안에서 호출)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM FindEntity f WHERE f.id = :id")
+    Optional<FindEntity> findByIdForUpdate(@Param("id") Long id);
+
     // 쿼리는 그대로 두고, 반환 타입만 List<FindNearbyDto>로 변경합니다.
     @Query(
             value = """
@@ -60,12 +72,135 @@ public interface FindRepository extends JpaRepository<FindEntity, Long> {
                     """, nativeQuery = true)
     List<FindNearbyReadableOnlyDto> findNearbyReadableOnly(@Param("lon") double lon, @Param("lat") double lat, @Param("userId") Long userId);
 
+    // ▼▼▼ [bounding-box 선필터] 반경에서 계산한 사각형(MBR)으로 ix_find_geo 공간 인덱스를 먼저 타고,
+    //      남은 행에만 정확한 구면 거리를 계산합니다. (findNearby / findNearbyReadableOnly 대체 경로)
+    //      사각형은 두 꼭짓점 POINT로 만든 LINESTRING의 MBR을 사용합니다.
+    @Query(
+            value = """
+                    SELECT
+                        f.find_pk AS find_pk,
+                        u.nickname AS nickname,
+                        u.profile_photo_url AS profile_image_url,
+                        ST_Y(f.coordinates) AS lat,
+                        ST_X(f.coordinates) AS lng,
+                        ST_Distance_Sphere(f.coordinates, ST_SRID(POINT(:lng, :lat), 4326)) AS distanceInMeters
+                    FROM
+                        find f
+                    JOIN following fw ON fw.followed_id = f.writer_id AND fw.follower_id = :userId
+                    JOIN user_info u ON f.writer_id = u.user_info_pk
+                    WHERE
+                        MBRContains(
+                            ST_SRID(LINESTRING(POINT(:minLng, :minLat), POINT(:maxLng, :maxLat)), 4326),
+                            f.coordinates)
+                        AND f.expiration_date >= NOW()
+                        AND ST_Distance_Sphere(f.coordinates, ST_SRID(POINT(:lng, :lat), 4326)) <= :radius
+                    ORDER BY
+                        distanceInMeters ASC
+                    """, nativeQuery = true)
+    List<FindNearbyDto> findNearbyBounded(@Param("lng") double lng, @Param("lat") double lat,
+                                          @Param("minLng") double minLng, @Param("minLat") double minLat,
+                                          @Param("maxLng") double maxLng, @Param("maxLat") double maxLat,
+                                          @Param("radius") double radius, @Param("userId") Long userId);
+
+    @Query(
+            value = """
+                    SELECT
+                        f.find_pk AS find_pk,
+                        u.nickname AS nickname,
+                        u.profile_photo_url AS profile_image_url,
+                        ST_Distance_Sphere(f.coordinates, ST_SRID(POINT(:lng, :lat), 4326)) AS distanceInMeters
+                    FROM
+                        find f
+                    JOIN following fw ON fw.followed_id = f.writer_id AND fw.follower_id = :userId
+                    JOIN user_info u ON f.writer_id = u.user_info_pk
+                    WHERE
+                        MBRContains(
+                            ST_SRID(LINESTRING(POINT(:minLng, :minLat), POINT(:maxLng, :maxLat)), 4326),
+                            f.coordinates)
+                        AND f.expiration_date >= NOW()
+                        AND ST_Distance_Sphere(f.coordinates, ST_SRID(POINT(:lng, :lat), 4326)) <= :radius
+                    ORDER BY
+                        distanceInMeters ASC
+                    """, nativeQuery = true)
+    List<FindNearbyReadableOnlyDto> findNearbyReadableOnlyBounded(@Param("lng") double lng, @Param("lat") double lat,
+                                                                  @Param("minLng") double minLng, @Param("minLat") double minLat,
+                                                                  @Param("maxLng") double maxLng, @Param("maxLat") double maxLat,
+                                                                  @Param("radius") double radius, @Param("userId") Long userId);
+
     Page<FindEntity> findByWriterOrderByIdDesc(UserInfoEntity writer, Pageable pageable);
 
     // ▼▼▼ [스와이프 뷰어용] 새로운 메소드를 여기에 추가했습니다. ▼▼▼
     @Query("SELECT f FROM FindEntity f JOIN FETCH f.writer WHERE f.writer = :writer ORDER BY f.createdAt DESC")
     List<FindEntity> findAllByWriterWithDetails(@Param("writer") UserInfoEntity writer);
 
+    // [스와이프 뷰어 - 페이지 단위] id <= :maxId 인 작성자의 게시물을 최신순으로 (크기는 pageable 로 제한)
+    @Query("SELECT f FROM FindEntity f JOIN FETCH f.writer WHERE f.writer = :writer AND f.id <= :maxId ORDER BY f.id DESC")
+    List<FindEntity> findFeedPage(@Param("writer") UserInfoEntity writer, @Param("maxId") Long maxId, Pageable pageable);
+
     // ▼▼▼ [추가됨] 자동 삭제를 위해 만료 시간이 지난 게시물을 찾는 메소드 ▼▼▼
     List<FindEntity> findAllByExpirationDateBefore(LocalDateTime now);
+
+    // ===================== 만료 정리(FindExpirySweeper) =====================
+
+    // 만료된 fin'd 를 오래된 순으로 limit 건 (ix_find_expiration 사용)
+    @Query(value = """
+            SELECT
+                f.find_pk AS id,
+                f.writer_id AS writerId,
+                f.content_capture_url AS contentCaptureUrl,
+                f.content_overwrite_url AS contentOverwriteUrl
+            FROM find f
+            WHERE f.expiration_date < :now
+            ORDER BY f.expiration_date ASC, f.find_pk ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ExpiredFindDto> findExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 여러 인스턴스가 같은 청크를 집을 수 있으므로 이미 옮겨진 행은 건너뜀 (중복 PK 로 청크 전체가 실패하지 않도록)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+            INSERT IGNORE INTO find_archive
+                (find_pk, writer_id, coordinates, content_capture_url, content_overwrite_url, address,
+                 created_at, expiration_date, archived_at)
+            SELECT
+                f.find_pk, f.writer_id, f.coordinates, f.content_capture_url, f.content_overwrite_url, f.address,
+                f.created_at, f.expiration_date, NOW()
+            FROM find f
+            WHERE f.find_pk IN (:ids)
+            """, nativeQuery = true)
+    int archiveByIds(@Param("ids") List<Long> ids);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM FindEntity f WHERE f.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    long countByExpirationDateBefore(LocalDateTime now);
+
+    @Query("SELECT MIN(f.expirationDate) FROM FindEntity f WHERE f.expirationDate < :now")
+    LocalDateTime findOldestExpiration(@Param("now") LocalDateTime now);
+
+    // ===================== 주소 백필(FindAddressBackfill) =====================
+
+    // 주소가 비어 있는 fin'd 를 id 순으로 (afterId 이후, checkedBefore 이후에 시도해 실패한 행은 제외)
+    @Query("SELECT f.id AS id, f.coordinates AS coordinates FROM FindEntity f " +
+            "WHERE f.address IS NULL AND f.id > :afterId " +
+            "AND (f.addressCheckedAt IS NULL OR f.addressCheckedAt < :checkedBefore) ORDER BY f.id ASC")
+    List<FindAddressTargetDto> findAddressTargets(@Param("afterId") Long afterId,
+                                                  @Param("checkedBefore") LocalDateTime checkedBefore,
+                                                  Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FindEntity f SET f.address = :address WHERE f.id = :id AND f.address IS NULL")
+    int fillAddress(@Param("id") Long id, @Param("address") String address);
+
+    // 주소를 얻지 못한 시도 기록 (영역 밖 좌표 등은 retry-days 가 지날 때까지 외부 API 를 다시 부르지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE FindEntity f SET f.addressCheckedAt = :checkedAt WHERE f.id = :id AND f.address IS NULL")
+    int markAddressChecked(@Param("id") Long id, @Param("checkedAt") LocalDateTime checkedAt);
+
+    // 인메모리 공간 인덱스(FindGeoIndex) 적재용: 만료되지 않은 fin'd + 작성자
+    @Query("SELECT f FROM FindEntity f JOIN FETCH f.writer WHERE f.expirationDate >= :now")
+    List<FindEntity> findAllActiveWithWriter(@Param("now") LocalDateTime now);
 }
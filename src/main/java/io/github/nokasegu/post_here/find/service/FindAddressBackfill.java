@@ -0,0 +1,146 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.find.dto.FindAddressTargetDto;
+import io.github.nokasegu.post_here.find.repository.FindRepository;
+import io.github.nokasegu.post_here.location.service.ReverseGeocodingService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * FindAddressBackfill
+ * <p>
+ * 역할
+ * - address 가 비어 있는 fin'd(컬럼 추가 이전 데이터, 작성 시 역지오코딩 실패분)의 주소를 채웁니다.
+ * <p>
+ * 속도 제한
+ * - 한 번의 실행에서 batch-size 건만 처리하고, 역지오코딩 호출 시작 간격을 delay-ms 이상으로 벌립니다.
+ * → 외부 API 호출은 최대 batch-size / interval-ms (같은 셀은 ReverseGeocodingService 캐시로 호출 없음)
+ * - id 커서로 앞으로만 진행하고, 끝까지 가면 처음부터 다시 돌아 실패했던 행을 재시도합니다.
+ * - 주소를 얻지 못한 행(어느 동에도 속하지 않는 좌표 등)은 address_checked_at 을 남기고
+ * retry-days 가 지날 때까지 건너뜁니다. → 영구 실패분이 매 바퀴 유료 API 로 다시 나가지 않음
+ * <p>
+ * 실행 스레드
+ * - 대기와 외부 호출이 공용 스케줄러 스레드를 붙잡지 않도록, 스케줄러는 전용 스레드에 실행을 넘기기만 합니다.
+ * - 이전 실행이 끝나지 않았으면 이번 주기는 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FindAddressBackfill {
+
+    private final FindRepository findRepository;
+    private final ReverseGeocodingService reverseGeocodingService;
+
+    @Value("${custom.find.address-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${custom.find.address-backfill.batch-size:50}")
+    private int batchSize;
+
+    @Value("${custom.find.address-backfill.delay-ms:200}")
+    private long delayMs;
+
+    @Value("${custom.find.address-backfill.retry-days:30}")
+    private int retryDays;
+
+    private long cursor = 0;
+
+    // 다음 역지오코딩 호출을 시작해도 되는 시각 (전용 스레드에서만 접근)
+    private long nextCallAt = 0;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "find-address-backfill");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${custom.find.address-backfill.interval-ms:60000}",
+            initialDelayString = "${custom.find.address-backfill.initial-delay-ms:120000}")
+    public void schedule() {
+        if (!enabled || !running.compareAndSet(false, true)) return;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    backfill();
+                } catch (Exception e) {
+                    log.warn("[FIND-ADDRESS] backfill run failed err={}", e.toString());
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    private void backfill() {
+        List<FindAddressTargetDto> targets = findRepository.findAddressTargets(
+                cursor, LocalDateTime.now().minusDays(retryDays), PageRequest.of(0, batchSize));
+        if (targets.isEmpty()) {
+            cursor = 0;
+            return;
+        }
+
+        int filled = 0;
+        int missed = 0;
+        for (FindAddressTargetDto target : targets) {
+            if (!acquire()) {
+                return;
+            }
+            cursor = target.getId();
+            try {
+                String address = reverseGeocodingService.getAddress(
+                        target.getCoordinates().getX(), target.getCoordinates().getY());
+                if (address != null) {
+                    filled += findRepository.fillAddress(target.getId(), address);
+                } else {
+                    missed += findRepository.markAddressChecked(target.getId(), LocalDateTime.now());
+                }
+            } catch (Exception e) {
+                log.warn("[FIND-ADDRESS] backfill failed find={} err={}", target.getId(), e.toString());
+            }
+        }
+
+        if (targets.size() < batchSize) {
+            cursor = 0;
+        }
+        log.info("[FIND-ADDRESS] backfill filled={} missed={}/{} cursor={}", filled, missed, targets.size(), cursor);
+    }
+
+    /**
+     * 직전 호출 시작 후 delay-ms 가 지날 때까지 대기 (중단되면 false)
+     */
+    private boolean acquire() {
+        long wait = nextCallAt - System.currentTimeMillis();
+        if (wait > 0) {
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        nextCallAt = System.currentTimeMillis() + delayMs;
+        return true;
+    }
+}
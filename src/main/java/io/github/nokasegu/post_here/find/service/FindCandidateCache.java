@@ -0,0 +1,318 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.common.util.GeoUtil;
+import io.github.nokasegu.post_here.find.service.FindGeoIndex.Hit;
+import io.github.nokasegu.post_here.find.service.FindGeoIndex.IndexedFind;
+import io.github.nokasegu.post_here.find.service.FindGeoIndex.RebuiltEvent;
+import io.github.nokasegu.post_here.follow.repository.FollowingRepository;
+import io.github.nokasegu.post_here.follow.service.FollowingService.FollowCreatedEvent;
+import io.github.nokasegu.post_here.follow.service.FollowingService.UnfollowedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FindCandidateCache
+ * <p>
+ * 역할
+ * - 사용자별 "팔로우 중인 작성자의 활성 fin'd" 후보 목록을 메모리에 보관합니다.
+ * - 위치 핑마다 반복되던 following ⋈ find ⋈ user_info 조인을 없애고,
+ * 수십 건 규모의 후보 배열을 거리 계산으로만 훑도록 합니다.
+ * <p>
+ * 무효화
+ * - 팔로우/언팔로우(커밋 후 이벤트): 해당 사용자 항목 전체 제거 → 다음 핑에 팔로우 목록부터 다시 적재
+ * - saveFind/deleteFind: 그 작성자를 팔로우하는 사용자들의 후보 배열만 제거(팔로우 목록은 유지, DB 조회 없음)
+ * - 만료: 스캔 중 만료 항목을 만나면 후보 배열을 버리고 다음 핑에 인덱스에서 다시 구성
+ * - 인덱스 전체 재적재(RebuiltEvent): 모든 사용자의 후보 배열 제거 → 다른 인스턴스에서의 저장/삭제도 다음 핑부터 반영
+ * - 팔로우 목록은 follow-ttl-ms 가 지나면 다시 읽어 다른 인스턴스에서의 변경도 따라잡습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FindCandidateCache {
+
+    private final FindGeoIndex findGeoIndex;
+    private final FollowingRepository followingRepository;
+
+    @Value("${custom.find.candidate-cache.max-users:50000}")
+    private int maxUsers;
+
+    @Value("${custom.find.candidate-cache.follow-ttl-ms:300000}")
+    private long followTtlMs;
+
+    // userId → 후보 (access-order LRU, maxUsers 초과 시 가장 오래 안 쓴 사용자 제거)
+    private final Map<Long, UserCandidates> users = Collections.synchronizedMap(
+            new LinkedHashMap<Long, UserCandidates>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserCandidates> eldest) {
+                    if (size() > maxUsers) {
+                        unwatch(eldest.getKey(), eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            });
+
+    // writerId → 그 작성자를 후보로 들고 있는 userId 집합 (작성자 fin'd 변경 시 역방향 무효화용, 변경은 users 락 안에서)
+    private final Map<Long, Set<Long>> watchersByWriter = new ConcurrentHashMap<>();
+
+    /**
+     * 후보를 사용할 수 있는지 (인덱스가 준비되지 않았으면 DB 경로 사용)
+     */
+    public boolean isAvailable() {
+        return findGeoIndex.isReady();
+    }
+
+    /**
+     * 사용자의 후보 중 (lat, lng) 반경 radiusMeters 이내를 가까운 순으로 반환합니다.
+     */
+    public List<Hit> findWithin(long userId, double lat, double lng, double radiusMeters) {
+        return scan(userId, lat, lng, radiusMeters).hits();
+    }
+
+    /**
+     * 반경 radiusMeters 이내 목록과 (반경과 무관한) 가장 가까운 거리를 후보 배열 한 번 훑기로 구합니다. (/location/tick)
+     */
+    public Scan scan(long userId, double lat, double lng, double radiusMeters) {
+        Candidates c = candidatesOf(userId);
+        long now = System.currentTimeMillis();
+        boolean sawExpired = false;
+
+        List<Hit> hits = new ArrayList<>();
+        double nearest = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < c.size(); i++) {
+            if (c.expiresAt[i] < now) {
+                sawExpired = true;
+                continue;
+            }
+            double d = GeoUtil.distanceMeters(lat, lng, c.lats[i], c.lngs[i]);
+            nearest = Math.min(nearest, d);
+            if (d <= radiusMeters) {
+                hits.add(new Hit(c.findIds[i], c.writerIds[i], c.lats[i], c.lngs[i], c.expiresAt[i], d,
+                        c.nicknames[i], c.photos[i]));
+            }
+        }
+        if (sawExpired) {
+            markStale(userId);
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceInMeters));
+        return new Scan(hits, nearest);
+    }
+
+    /**
+     * 사용자의 후보 중 (lat, lng) 에서 가장 가까운 활성 fin'd 까지의 거리(m)
+     * - 후보가 없으면 Double.POSITIVE_INFINITY
+     */
+    public double nearestDistance(long userId, double lat, double lng) {
+        Candidates c = candidatesOf(userId);
+        long now = System.currentTimeMillis();
+
+        double nearest = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < c.size(); i++) {
+            if (c.expiresAt[i] < now) continue;
+            nearest = Math.min(nearest, GeoUtil.distanceMeters(lat, lng, c.lats[i], c.lngs[i]));
+        }
+        return nearest;
+    }
+
+    /**
+     * 사용자가 팔로우 중인 작성자 id (오름차순 정렬, 공유 배열이므로 수정 금지)
+     */
+    public long[] followedIds(long userId) {
+        UserCandidates uc = users.get(userId);
+        if (uc == null || System.currentTimeMillis() - uc.followsLoadedAt > followTtlMs) {
+            if (uc != null) invalidateUser(userId);
+            uc = loadFollows(userId);
+        }
+        return uc.followedIds;
+    }
+
+    // ===================== 무효화 =====================
+
+    /**
+     * 작성자의 fin'd가 생성/삭제되었을 때: 그 작성자를 팔로우하는 사용자들의 후보 배열 무효화
+     */
+    public void onWriterFindsChanged(Long writerId) {
+        if (writerId == null) return;
+        Set<Long> watchers = watchersByWriter.get(writerId);
+        if (watchers == null) return;
+        for (Long userId : watchers) {
+            markStale(userId);
+        }
+    }
+
+    /**
+     * 팔로우 관계가 바뀌었을 때: 사용자 항목 전체 제거
+     */
+    public void invalidateUser(Long userId) {
+        if (userId == null) return;
+        UserCandidates removed;
+        synchronized (users) {
+            removed = users.remove(userId);
+            if (removed != null) unwatch(userId, removed);
+        }
+        if (removed != null) {
+            synchronized (removed) {
+                removed.version++;
+                removed.finds = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFollowCreated(FollowCreatedEvent ev) {
+        invalidateUser(ev.followerId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUnfollowed(UnfollowedEvent ev) {
+        invalidateUser(ev.followerId());
+    }
+
+    /**
+     * 인덱스가 다시 만들어졌을 때: 모든 사용자의 후보 배열 무효화 (팔로우 목록은 유지)
+     */
+    @EventListener
+    public void onIndexRebuilt(RebuiltEvent ev) {
+        List<UserCandidates> all;
+        synchronized (users) {
+            all = new ArrayList<>(users.values());
+        }
+        for (UserCandidates uc : all) {
+            synchronized (uc) {
+                uc.version++;
+                uc.finds = null;
+            }
+        }
+    }
+
+    private void markStale(Long userId) {
+        UserCandidates uc = users.get(userId);
+        if (uc == null) return;
+        synchronized (uc) {
+            uc.version++;
+            uc.finds = null;
+        }
+    }
+
+    // ===================== 구성 =====================
+
+    private Candidates candidatesOf(long userId) {
+        UserCandidates uc = users.get(userId);
+        if (uc == null || System.currentTimeMillis() - uc.followsLoadedAt > followTtlMs) {
+            if (uc != null) invalidateUser(userId);
+            uc = loadFollows(userId);
+        }
+
+        Candidates finds = uc.finds;
+        if (finds != null) return finds;
+
+        long version;
+        synchronized (uc) {
+            version = uc.version;
+        }
+        finds = Candidates.of(findGeoIndex.activeByWriters(uc.followedIds));
+        synchronized (uc) {
+            // 구성 도중 무효화가 있었다면 저장하지 않음(이번 응답에만 사용)
+            if (uc.version == version) uc.finds = finds;
+        }
+        return finds;
+    }
+
+    private UserCandidates loadFollows(long userId) {
+        List<Long> followed = followingRepository.findFollowedIdsByMeId(userId);
+        long[] followedIds = new long[followed.size()];
+        for (int i = 0; i < followedIds.length; i++) followedIds[i] = followed.get(i);
+        Arrays.sort(followedIds);
+
+        UserCandidates uc = new UserCandidates(followedIds, System.currentTimeMillis());
+        // 항목 교체와 역방향 등록/해제를 users 락 하나로 묶음
+        // (사이에 invalidateUser 가 끼어들어 새 항목의 등록까지 지우지 않도록)
+        synchronized (users) {
+            UserCandidates replaced = users.put(userId, uc);
+            if (replaced != null) unwatch(userId, replaced);
+            for (long writerId : followedIds) {
+                watchersByWriter.computeIfAbsent(writerId, k -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+        }
+        return uc;
+    }
+
+    private void unwatch(Long userId, UserCandidates uc) {
+        for (long writerId : uc.followedIds) {
+            watchersByWriter.computeIfPresent(writerId, (k, set) -> {
+                set.remove(userId);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    // ===================== 내부 타입 =====================
+
+    /**
+     * scan 결과: 반경 이내 목록(가까운 순) + 가장 가까운 활성 후보까지 거리(없으면 POSITIVE_INFINITY)
+     */
+    public record Scan(List<Hit> hits, double nearestDistance) {
+    }
+
+    private static final class UserCandidates {
+        final long[] followedIds;
+        final long followsLoadedAt;
+        volatile Candidates finds; // null = 다시 구성 필요
+        long version;              // this 동기화로 보호
+
+        UserCandidates(long[] followedIds, long followsLoadedAt) {
+            this.followedIds = followedIds;
+            this.followsLoadedAt = followsLoadedAt;
+        }
+    }
+
+    /**
+     * 사용자 한 명의 후보 fin'd (병렬 배열, 불변)
+     */
+    private static final class Candidates {
+        final long[] findIds;
+        final long[] writerIds;
+        final double[] lats;
+        final double[] lngs;
+        final long[] expiresAt;
+        final String[] nicknames;
+        final String[] photos;
+
+        private Candidates(int n) {
+            findIds = new long[n];
+            writerIds = new long[n];
+            lats = new double[n];
+            lngs = new double[n];
+            expiresAt = new long[n];
+            nicknames = new String[n];
+            photos = new String[n];
+        }
+
+        static Candidates of(List<IndexedFind> finds) {
+            Candidates c = new Candidates(finds.size());
+            for (int i = 0; i < finds.size(); i++) {
+                IndexedFind f = finds.get(i);
+                c.findIds[i] = f.id();
+                c.writerIds[i] = f.writerId();
+                c.lats[i] = f.lat();
+                c.lngs[i] = f.lng();
+                c.expiresAt[i] = f.expiresAt();
+                c.nicknames[i] = f.nickname();
+                c.photos[i] = f.profilePhotoUrl();
+            }
+            return c;
+        }
+
+        int size() {
+            return findIds.length;
+        }
+    }
+}
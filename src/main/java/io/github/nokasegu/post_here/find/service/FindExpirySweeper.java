@@ -0,0 +1,134 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.common.util.S3UploaderService;
+import io.github.nokasegu.post_here.find.dto.ExpiredFindDto;
+import io.github.nokasegu.post_here.find.repository.FindRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FindExpirySweeper
+ * <p>
+ * 역할
+ * - 만료(expiration_date 경과)된 fin'd 를 주기적으로 정리합니다.
+ * <p>
+ * 동작
+ * - 만료된 행을 오래된 순으로 chunk-size 건씩 읽어 → 청크마다 한 트랜잭션으로 삭제 → 커밋 후 S3 객체를 DeleteObjects 로 일괄 삭제
+ * - 한 번의 실행에서 max-chunks-per-run 청크까지만 처리하고 나머지는 다음 주기로 넘깁니다.
+ * - archive=true: 행을 find_archive 로 옮긴 뒤 삭제하며, 보관 목적이므로 S3 객체(덧쓰기 타일 포함)는 지우지 않습니다.
+ * <p>
+ * 지표(Micrometer)
+ * - find.sweeper.removed / s3.deleted / s3.failed (카운터)
+ * - find.sweeper.backlog: 실행 후 남은 만료 행 수
+ * - find.sweeper.lag.seconds: 남은 만료 행 중 가장 오래된 것의 만료 후 경과 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FindExpirySweeper {
+
+    private final FindRepository findRepository;
+    private final FindService findService;
+    private final FindOverwriteService findOverwriteService;
+    private final S3UploaderService s3UploaderService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.find.sweeper.enabled:true}")
+    private boolean enabled;
+
+    @Value("${custom.find.sweeper.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${custom.find.sweeper.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${custom.find.sweeper.archive:false}")
+    private boolean archive;
+
+    private Counter removedCounter;
+    private Counter s3DeletedCounter;
+    private Counter s3FailedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        removedCounter = meterRegistry.counter("find.sweeper.removed", "mode", archive ? "archive" : "delete");
+        s3DeletedCounter = meterRegistry.counter("find.sweeper.s3.deleted");
+        s3FailedCounter = meterRegistry.counter("find.sweeper.s3.failed");
+        meterRegistry.gauge("find.sweeper.backlog", backlog);
+        meterRegistry.gauge("find.sweeper.lag.seconds", lagSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.find.sweeper.interval-ms:300000}",
+            initialDelayString = "${custom.find.sweeper.initial-delay-ms:60000}")
+    public void sweep() {
+        if (!enabled) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<ExpiredFindDto> expired = findRepository.findExpiredChunk(now, chunkSize);
+            if (expired.isEmpty()) break;
+
+            List<Long> ids = new ArrayList<>(expired.size());
+            List<String> urls = new ArrayList<>(expired.size() * 2);
+            for (ExpiredFindDto find : expired) {
+                ids.add(find.getId());
+                if (find.getContentCaptureUrl() != null) urls.add(find.getContentCaptureUrl());
+                if (s3UploaderService.isObjectUrl(find.getContentOverwriteUrl())) urls.add(find.getContentOverwriteUrl());
+            }
+            if (!archive) {
+                // 덧쓰기 타일은 매니페스트가 삭제되기 전에 목록을 받아 둠
+                urls.addAll(findOverwriteService.tileUrlsOf(ids));
+            }
+
+            int count = findService.removeExpired(ids, archive);
+            removed += count;
+            removedCounter.increment(count);
+
+            if (!archive) {
+                deleteObjects(urls);
+            }
+            if (expired.size() < chunkSize) break;
+        }
+
+        updateLag(now);
+        if (removed > 0) {
+            log.info("[FIND-SWEEPER] removed={} archive={} backlog={} lagSeconds={}",
+                    removed, archive, backlog.get(), lagSeconds.get());
+        }
+    }
+
+    private void deleteObjects(List<String> urls) {
+        if (urls.isEmpty()) return;
+        try {
+            int failed = s3UploaderService.deleteAll(urls);
+            s3DeletedCounter.increment(urls.size() - failed);
+            s3FailedCounter.increment(failed);
+        } catch (Exception e) {
+            // 행은 이미 삭제됨 → 객체는 남지만 다음 청크 처리는 계속
+            s3FailedCounter.increment(urls.size());
+            log.warn("[FIND-SWEEPER] S3 batch delete failed size={} err={}", urls.size(), e.toString());
+        }
+    }
+
+    private void updateLag(LocalDateTime now) {
+        backlog.set(findRepository.countByExpirationDateBefore(now));
+        LocalDateTime oldest = findRepository.findOldestExpiration(now);
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, now).getSeconds());
+    }
+}
@@ -0,0 +1,445 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.common.util.GeoUtil;
+import io.github.nokasegu.post_here.find.domain.FindEntity;
+import io.github.nokasegu.post_here.find.repository.FindRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+/**
+ * FindGeoIndex
+ * <p>
+ * 역할
+ * - 만료되지 않은 fin'd 전체를 고정 크기 위/경도 격자(cell)에 나눠 담는 인메모리 공간 인덱스.
+ * - /find/around, /location 처럼 위치 핑마다 호출되는 반경 조회를 DB 대신 메모리에서 처리합니다.
+ * <p>
+ * 구조
+ * - cell 하나는 id/작성자/위도/경도/만료시각을 원시 타입 배열로 보관합니다(객체 할당 최소화).
+ * - 기동 시(ApplicationReadyEvent) 전체 적재, FindService.saveFind/deleteFind에서 증분 반영,
+ * 만료분은 주기적으로 제거합니다. 조회 시에도 만료시각을 다시 확인하므로 제거 주기와 무관하게 정확합니다.
+ * - 다른 인스턴스에서 생긴 변경/프로필 변경은 주기적 전체 재적재(rebuild-interval-ms, 기본 2분)로 따라잡습니다.
+ * → 다른 인스턴스에서 저장/삭제된 fin'd는 최대 한 주기 동안 이 인스턴스의 조회에 보이지 않거나 남아 있을 수 있음
+ * - 재적재가 끝나면 RebuiltEvent 를 발행해 FindCandidateCache 의 후보 배열도 새 인덱스로 다시 구성하게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FindGeoIndex {
+
+    // 격자 한 칸 크기(도). 위도 방향 약 222m → 200m 반경 조회 시 최대 3x3 칸만 확인
+    private static final double CELL_DEG = 0.002;
+    private static final long COLS = (long) Math.ceil(360.0 / CELL_DEG) + 1;
+
+    private final FindRepository findRepository;
+    private final ApplicationEventPublisher publisher;
+
+    @Value("${custom.find.geo-index.enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock 보호 대상
+    private State state = new State();
+    private List<Consumer<State>> journal; // 재적재 중 발생한 변경 기록(재적재 완료 후 재생)
+
+    private volatile boolean ready = false;
+
+    /**
+     * 인덱스를 조회에 사용할 수 있는지 여부 (비활성화 또는 최초 적재 전이면 false → DB 경로 사용)
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // ===================== 적재 / 재적재 =====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("[FIND-INDEX] disabled by property custom.find.geo-index.enabled=false");
+            return;
+        }
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${custom.find.geo-index.rebuild-interval-ms:120000}",
+            fixedDelayString = "${custom.find.geo-index.rebuild-interval-ms:120000}")
+    public void scheduledRebuild() {
+        if (enabled) rebuild();
+    }
+
+    /**
+     * DB의 활성 fin'd로 인덱스를 처음부터 다시 만듭니다.
+     * - 적재 중 들어온 add/remove는 journal에 쌓았다가 교체 직후 재생하므로 유실되지 않습니다.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State fresh = new State();
+        try {
+            List<FindEntity> actives = findRepository.findAllActiveWithWriter(LocalDateTime.now());
+            for (FindEntity find : actives) {
+                fresh.add(IndexedFind.of(find));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("[FIND-INDEX] rebuild failed: {}", e.toString(), e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Consumer<State> op : journal) {
+                op.accept(fresh);
+            }
+            journal = null;
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[FIND-INDEX] rebuilt. finds={} cells={}", fresh.entries.size(), fresh.cells.size());
+        publisher.publishEvent(new RebuiltEvent());
+    }
+
+    // ===================== 증분 반영 =====================
+
+    public void add(FindEntity find) {
+        if (!enabled || find == null || find.getId() == null) return;
+        IndexedFind entry = IndexedFind.of(find);
+        apply(s -> s.add(entry));
+    }
+
+    public void remove(Long findId) {
+        if (!enabled || findId == null) return;
+        long id = findId;
+        apply(s -> s.remove(id));
+    }
+
+    /**
+     * 만료된 항목을 주기적으로 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${custom.find.geo-index.evict-interval-ms:60000}")
+    public void evictExpired() {
+        if (!isReady()) return;
+        long now = System.currentTimeMillis();
+        int[] removed = new int[1];
+        apply(s -> removed[0] += s.removeExpired(now));
+        if (removed[0] > 0) {
+            log.info("[FIND-INDEX] evicted expired finds={}", removed[0]);
+        }
+    }
+
+    private void apply(Consumer<State> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(state);
+            if (journal != null) journal.add(op);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===================== 조회 =====================
+
+    /**
+     * (lat, lng) 기준 반경 radiusMeters 이내의 활성 fin'd를 가까운 순으로 반환합니다.
+     *
+     * @param writerFilter 작성자 id로 포함 여부를 판단(예: 팔로우 중인 작성자만)
+     */
+    public List<Hit> findWithin(double lat, double lng, double radiusMeters, LongPredicate writerFilter) {
+        long now = System.currentTimeMillis();
+        double dLat = GeoUtil.latDelta(radiusMeters);
+        double dLng = GeoUtil.lngDelta(lat, radiusMeters);
+        long rowMin = row(lat - dLat), rowMax = row(lat + dLat);
+        long colMin = col(lng - dLng), colMax = col(lng + dLng);
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            State s = state;
+            for (long r = rowMin; r <= rowMax; r++) {
+                for (long c = colMin; c <= colMax; c++) {
+                    Cell cell = s.cells.get(r * COLS + c);
+                    if (cell == null) continue;
+                    for (int i = 0; i < cell.size; i++) {
+                        if (cell.expiresAt[i] < now) continue;
+                        if (writerFilter != null && !writerFilter.test(cell.writerIds[i])) continue;
+                        double d = GeoUtil.distanceMeters(lat, lng, cell.lats[i], cell.lngs[i]);
+                        if (d <= radiusMeters) {
+                            IndexedFind e = s.entries.get(cell.ids[i]);
+                            hits.add(new Hit(cell.ids[i], cell.writerIds[i], cell.lats[i], cell.lngs[i],
+                                    cell.expiresAt[i], d,
+                                    e != null ? e.nickname() : null,
+                                    e != null ? e.profilePhotoUrl() : null));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceInMeters));
+        return hits;
+    }
+
+    /**
+     * 주어진 작성자들의 활성 fin'd 전체 (FindCandidateCache 후보 구성용)
+     */
+    public List<IndexedFind> activeByWriters(long[] writerIds) {
+        long now = System.currentTimeMillis();
+        List<IndexedFind> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            State s = state;
+            for (long writerId : writerIds) {
+                Set<Long> ids = s.findsByWriter.get(writerId);
+                if (ids == null) continue;
+                for (Long id : ids) {
+                    IndexedFind e = s.entries.get(id);
+                    if (e != null && e.expiresAt() >= now) result.add(e);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 사각 영역 안의 활성 fin'd 전체 (타일 클러스터 구성용)
+     * - 영역이 넓어 훑을 격자 칸 수가 실제 칸 수보다 많으면 칸 전체를 순회합니다.
+     */
+    public List<IndexedFind> activeInBox(double minLat, double minLng, double maxLat, double maxLng) {
+        long now = System.currentTimeMillis();
+        long rowMin = row(minLat), rowMax = row(maxLat);
+        long colMin = col(minLng), colMax = col(maxLng);
+
+        List<IndexedFind> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            State s = state;
+            long span = (rowMax - rowMin + 1) * (colMax - colMin + 1);
+            if (span > s.cells.size()) {
+                for (IndexedFind e : s.entries.values()) {
+                    if (e.expiresAt() >= now && e.lat() >= minLat && e.lat() <= maxLat
+                            && e.lng() >= minLng && e.lng() <= maxLng) {
+                        result.add(e);
+                    }
+                }
+                return result;
+            }
+            for (long r = rowMin; r <= rowMax; r++) {
+                for (long c = colMin; c <= colMax; c++) {
+                    Cell cell = s.cells.get(r * COLS + c);
+                    if (cell == null) continue;
+                    for (int i = 0; i < cell.size; i++) {
+                        if (cell.expiresAt[i] < now) continue;
+                        if (cell.lats[i] < minLat || cell.lats[i] > maxLat
+                                || cell.lngs[i] < minLng || cell.lngs[i] > maxLng) continue;
+                        IndexedFind e = s.entries.get(cell.ids[i]);
+                        if (e != null) result.add(e);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 인덱스에 올라간 fin'd (없으면 null)
+     */
+    public IndexedFind get(Long findId) {
+        if (findId == null) return null;
+        lock.readLock().lock();
+        try {
+            return state.entries.get(findId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long row(double lat) {
+        return (long) Math.floor((lat + 90.0) / CELL_DEG);
+    }
+
+    private static long col(double lng) {
+        return (long) Math.floor((lng + 180.0) / CELL_DEG);
+    }
+
+    private static long cellKey(double lat, double lng) {
+        return row(lat) * COLS + col(lng);
+    }
+
+    static long toEpochMillis(LocalDateTime time) {
+        if (time == null) return Long.MAX_VALUE;
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // ===================== 내부 타입 =====================
+
+    /**
+     * 전체 재적재 완료 이벤트 (이전 인덱스로 만든 파생 캐시 무효화용)
+     */
+    public record RebuiltEvent() {
+    }
+
+    /**
+     * 반경 조회 결과 한 건
+     */
+    public record Hit(long findId, long writerId, double lat, double lng, long expiresAt,
+                      double distanceInMeters, String nickname, String profileImageUrl) {
+    }
+
+    /**
+     * 인덱스에 올라간 fin'd 한 건 (작성자 닉네임/프로필은 적재 시점 값)
+     */
+    public record IndexedFind(long id, long writerId, double lat, double lng, long expiresAt,
+                              String nickname, String profilePhotoUrl) {
+
+        static IndexedFind of(FindEntity find) {
+            // 좌표는 Coordinate(lng, lat)로 저장되므로 X=경도, Y=위도
+            return new IndexedFind(
+                    find.getId(),
+                    find.getWriter().getId(),
+                    find.getCoordinates().getY(),
+                    find.getCoordinates().getX(),
+                    toEpochMillis(find.getExpirationDate()),
+                    find.getWriter().getNickname(),
+                    find.getWriter().getProfilePhotoUrl());
+        }
+    }
+
+    private static final class State {
+        final Map<Long, Cell> cells = new HashMap<>();
+        final Map<Long, IndexedFind> entries = new HashMap<>();
+        final Map<Long, Set<Long>> findsByWriter = new HashMap<>();
+
+        void add(IndexedFind e) {
+            remove(e.id());
+            cells.computeIfAbsent(cellKey(e.lat(), e.lng()), k -> new Cell()).add(e);
+            entries.put(e.id(), e);
+            findsByWriter.computeIfAbsent(e.writerId(), k -> new HashSet<>()).add(e.id());
+        }
+
+        void remove(long findId) {
+            IndexedFind e = entries.remove(findId);
+            if (e == null) return;
+            Set<Long> ids = findsByWriter.get(e.writerId());
+            if (ids != null && ids.remove(findId) && ids.isEmpty()) {
+                findsByWriter.remove(e.writerId());
+            }
+            long key = cellKey(e.lat(), e.lng());
+            Cell cell = cells.get(key);
+            if (cell != null && cell.remove(findId) && cell.size == 0) {
+                cells.remove(key);
+            }
+        }
+
+        int removeExpired(long now) {
+            int removed = 0;
+            Iterator<Map.Entry<Long, Cell>> it = cells.entrySet().iterator();
+            while (it.hasNext()) {
+                Cell cell = it.next().getValue();
+                for (int i = cell.size - 1; i >= 0; i--) {
+                    if (cell.expiresAt[i] < now) {
+                        IndexedFind e = entries.remove(cell.ids[i]);
+                        if (e != null) {
+                            Set<Long> ids = findsByWriter.get(e.writerId());
+                            if (ids != null && ids.remove(e.id()) && ids.isEmpty()) {
+                                findsByWriter.remove(e.writerId());
+                            }
+                        }
+                        cell.removeAt(i);
+                        removed++;
+                    }
+                }
+                if (cell.size == 0) it.remove();
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * 격자 한 칸. 병렬 원시 배열 + size (삭제 시 마지막 원소로 덮어써 O(1) 제거)
+     */
+    private static final class Cell {
+        long[] ids = new long[4];
+        long[] writerIds = new long[4];
+        double[] lats = new double[4];
+        double[] lngs = new double[4];
+        long[] expiresAt = new long[4];
+        int size;
+
+        void add(IndexedFind e) {
+            if (size == ids.length) {
+                int n = size * 2;
+                ids = Arrays.copyOf(ids, n);
+                writerIds = Arrays.copyOf(writerIds, n);
+                lats = Arrays.copyOf(lats, n);
+                lngs = Arrays.copyOf(lngs, n);
+                expiresAt = Arrays.copyOf(expiresAt, n);
+            }
+            ids[size] = e.id();
+            writerIds[size] = e.writerId();
+            lats[size] = e.lat();
+            lngs[size] = e.lng();
+            expiresAt[size] = e.expiresAt();
+            size++;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    removeAt(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void removeAt(int i) {
+            int last = size - 1;
+            ids[i] = ids[last];
+            writerIds[i] = writerIds[last];
+            lats[i] = lats[last];
+            lngs[i] = lngs[last];
+            expiresAt[i] = expiresAt[last];
+            size--;
+        }
+    }
+}
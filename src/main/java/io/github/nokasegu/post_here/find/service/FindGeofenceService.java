@@ -0,0 +1,150 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.find.dto.FindGeofenceDto;
+import io.github.nokasegu.post_here.find.dto.FindGeofenceSetDto;
+import io.github.nokasegu.post_here.find.service.FindGeoIndex.Hit;
+import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
+import io.github.nokasegu.post_here.userInfo.service.UserInfoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * FindGeofenceService
+ * <p>
+ * 역할
+ * - 기기가 OS 지오펜스로 직접 근접을 감지할 수 있도록, 주변의 팔로우 작성자 활성 fin'd 중
+ * 가까운 max-fences 개를 펜스(id, 좌표, 반경, 만료)로 내려줍니다.
+ * - exit 펜스: 세트가 유효한 영역. 기기가 이 영역을 벗어나면 세트를 다시 요청합니다.
+ * → 포함되지 않은 fin'd 는 "첫 번째로 빠진 fin'd 거리(coverage)" 또는 search-radius 바깥에 있으므로,
+ * 그만큼에서 펜스 반경을 뺀 거리 안에서는 놓치는 fin'd 가 없습니다.
+ * - exit 반경은 coverage - 펜스 반경으로 두되, OS 가 등록/감지할 수 있는 최소 반경(min-exit-radius, 100m 이상) 아래로는 줄이지 않습니다.
+ * coverage 가 그보다 작은 밀집 지역에서는 exit 반경 대신 세트를 가까운 max-fences 개로 줄이고,
+ * 세트에 들지 못한 fin'd 는 위치 핑(FindProximityStage)의 판정으로 찾습니다.
+ * - exit 펜스 안에서 닿을 수 없는 펜스는 세트에서 뺍니다.
+ * <p>
+ * 버전
+ * - 사용자별로 마지막에 내려준 세트를 메모리에 보관하고, 내용이 바뀔 때마다 새 버전을 붙입니다.
+ * - 요청의 since 가 보관 중인 버전과 같으면 변경분(추가/변경 fences, removed)만, 아니면 전체 세트를 내려줍니다.
+ * - 버전은 시각 기반이라 인스턴스가 달라도 다른 세트에 같은 버전이 붙지 않습니다(모르는 버전이면 전체 세트).
+ */
+@Service
+@RequiredArgsConstructor
+public class FindGeofenceService {
+
+    private final FindCandidateCache findCandidateCache;
+    private final UserInfoService userInfoService;
+
+    @Value("${custom.find.geofence.max-fences:20}")
+    private int maxFences;
+
+    @Value("${custom.find.geofence.search-radius-meters:3000}")
+    private double searchRadiusMeters;
+
+    @Value("${custom.find.geofence.fence-radius-meters:50}")
+    private double fenceRadiusMeters;
+
+    // Android/iOS 가 지오펜스를 안정적으로 등록/감지하는 최소 반경 (설정값이 더 작아도 이 아래로 내리지 않음)
+    private static final double PLATFORM_MIN_RADIUS_METERS = 100;
+
+    @Value("${custom.find.geofence.min-exit-radius-meters:150}")
+    private double minExitRadiusMeters;
+
+    @Value("${custom.find.geofence.max-users:50000}")
+    private int maxUsers;
+
+    // userId → 마지막으로 내려준 세트 (access-order LRU)
+    private final Map<Long, ServedSet> served = Collections.synchronizedMap(
+            new LinkedHashMap<Long, ServedSet>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, ServedSet> eldest) {
+                    return size() > maxUsers;
+                }
+            });
+
+    public FindGeofenceSetDto getGeofences(double lng, double lat, Long since, String userEmail) {
+        // 후보 인덱스 적재 전: 빈 세트 + 작은 exit 펜스로 곧 다시 요청하게 함
+        if (!findCandidateCache.isAvailable()) {
+            return FindGeofenceSetDto.builder()
+                    .version(0)
+                    .full(true)
+                    .fences(List.of())
+                    .removed(List.of())
+                    .exitFence(exitFence(lng, lat, minExitRadius()))
+                    .build();
+        }
+
+        UserInfoEntity user = userInfoService.getUserInfoByEmail(userEmail);
+        List<Hit> hits = findCandidateCache.findWithin(user.getId(), lat, lng, searchRadiusMeters);
+
+        // 포함되지 않은 fin'd 는 모두 coverage 이상 떨어져 있음 (잘렸으면 첫 번째로 빠진 fin'd 까지의 거리)
+        double coverage = hits.size() > maxFences ? hits.get(maxFences).distanceInMeters() : searchRadiusMeters;
+        // exit 펜스는 coverage 까지, 단 플랫폼 최소 반경 아래로는 줄이지 않음 (그때는 세트를 가까운 max-fences 개로)
+        double exitRadius = Math.max(coverage - fenceRadiusMeters, minExitRadius());
+        FindGeofenceDto exit = exitFence(lng, lat, exitRadius);
+
+        Map<Long, FindGeofenceDto> current = new LinkedHashMap<>();
+        for (Hit hit : hits) {
+            // exit 펜스 안에서 닿을 수 없는 펜스는 빼서 세트를 줄임
+            if (current.size() >= maxFences || hit.distanceInMeters() > exitRadius + fenceRadiusMeters) break;
+            current.put(hit.findId(), FindGeofenceDto.builder()
+                    .id(hit.findId())
+                    .lat(hit.lat())
+                    .lng(hit.lng())
+                    .radius(fenceRadiusMeters)
+                    .expiresAt(hit.expiresAt())
+                    .build());
+        }
+
+        ServedSet prev = served.get(user.getId());
+        long version = (prev != null && prev.fences().equals(current))
+                ? prev.version()
+                : Math.max(System.currentTimeMillis(), prev == null ? 0 : prev.version() + 1);
+        served.put(user.getId(), new ServedSet(version, current));
+
+        FindGeofenceSetDto.FindGeofenceSetDtoBuilder result = FindGeofenceSetDto.builder()
+                .version(version)
+                .exitFence(exit);
+
+        if (since == null || prev == null || prev.version() != since) {
+            return result.full(true)
+                    .fences(new ArrayList<>(current.values()))
+                    .removed(List.of())
+                    .build();
+        }
+
+        List<FindGeofenceDto> changed = new ArrayList<>();
+        for (FindGeofenceDto fence : current.values()) {
+            if (!fence.equals(prev.fences().get(fence.getId()))) {
+                changed.add(fence);
+            }
+        }
+        List<Long> removed = new ArrayList<>();
+        for (Long id : prev.fences().keySet()) {
+            if (!current.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+        return result.full(false)
+                .fences(changed)
+                .removed(removed)
+                .build();
+    }
+
+    private double minExitRadius() {
+        return Math.max(minExitRadiusMeters, PLATFORM_MIN_RADIUS_METERS);
+    }
+
+    private FindGeofenceDto exitFence(double lng, double lat, double radius) {
+        return FindGeofenceDto.builder()
+                .lat(lat)
+                .lng(lng)
+                .radius(radius)
+                .build();
+    }
+
+    private record ServedSet(long version, Map<Long, FindGeofenceDto> fences) {
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.common.util.GeoUtil;
+import io.github.nokasegu.post_here.find.domain.FindEntity;
+import io.github.nokasegu.post_here.location.repository.UserLastLocationRepository;
+import io.github.nokasegu.post_here.notification.service.FcmSenderService;
+import io.github.nokasegu.post_here.notification.service.NotificationService;
+import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
+import io.github.nokasegu.post_here.userInfo.repository.UserInfoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * FindNearbyFanout
+ * <p>
+ * 역할
+ * - fin'd 가 새로 생성되면, 작성자의 팔로워 중 마지막 위치가 열람 가능 반경(50m) 안에 있는 사용자에게
+ * 핑을 기다리지 않고 FIND_FOUND 알림을 보냅니다.
+ * <p>
+ * 동작 (saveFind 응답과 분리된 단일 스레드에서 수행)
+ * 1) user_last_location 공간 인덱스로 주변 사용자만 추리고 팔로우 관계로 거름 → 비용은 "주변 사용자 수"에 비례
+ * 2) FindNotificationDedupe 로 이미 받은 사용자 제외
+ * 3) 알림 행을 한 번에 저장하고, FCM 은 멀티캐스트로 한 번에 발송
+ * <p>
+ * - last-location-ttl-ms 보다 오래된 위치는 현재 위치로 보지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FindNearbyFanout {
+
+    private final UserLastLocationRepository userLastLocationRepository;
+    private final UserInfoRepository userInfoRepository;
+    private final FindNotificationDedupe findNotificationDedupe;
+    private final NotificationService notificationService;
+    private final FcmSenderService fcmSenderService;
+
+    @Value("${custom.find.nearby-fanout.enabled:true}")
+    private boolean enabled;
+
+    @Value("${custom.find.nearby-fanout.last-location-ttl-ms:600000}")
+    private long lastLocationTtlMs;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "find-fanout");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 새 fin'd 에 대한 근처 팔로워 알림을 예약합니다. (호출 스레드는 기다리지 않음)
+     */
+    public void submit(FindEntity find, UserInfoEntity writer) {
+        if (!enabled) return;
+
+        long findId = find.getId();
+        long writerId = writer.getId();
+        String nickname = writer.getNickname();
+        double lng = find.getCoordinates().getX();
+        double lat = find.getCoordinates().getY();
+
+        executor.execute(() -> {
+            try {
+                fanout(findId, writerId, nickname, lng, lat);
+            } catch (Exception e) {
+                log.warn("[FIND-FANOUT] failed find={} err={}", findId, e.toString(), e);
+            }
+        });
+    }
+
+    private void fanout(long findId, long writerId, String nickname, double lng, double lat) {
+        double dLat = GeoUtil.latDelta(FindService.READABLE_RADIUS_METERS);
+        double dLng = GeoUtil.lngDelta(lat, FindService.READABLE_RADIUS_METERS);
+        LocalDateTime since = LocalDateTime.now().minusNanos(lastLocationTtlMs * 1_000_000L);
+
+        List<Long> nearby = userLastLocationRepository.findFollowersNear(writerId, lng, lat,
+                lng - dLng, lat - dLat, lng + dLng, lat + dLat, FindService.READABLE_RADIUS_METERS, since);
+        if (nearby.isEmpty()) return;
+
+        List<Long> targetIds = new ArrayList<>(nearby.size());
+        for (Long userId : nearby) {
+            if (findNotificationDedupe.tryAcquire(userId, findId)) {
+                targetIds.add(userId);
+            }
+        }
+        if (targetIds.isEmpty()) return;
+
+        List<UserInfoEntity> targets = userInfoRepository.findAllById(targetIds);
+        String message = nickname + "님의 fin'd가 근처에 생겼습니다";
+
+        notificationService.createFindAll(targets, message);
+        fcmSenderService.sendFindNotification(targets, message);
+
+        log.info("[FIND-FANOUT] find={} notified={} (nearby followers={})", findId, targets.size(), nearby.size());
+    }
+}
@@ -0,0 +1,338 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.find.repository.FindNotificationLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * FindNotificationDedupe
+ * <p>
+ * 역할
+ * - "같은 사용자에게 같은 fin'd 의 FIND_FOUND 알림을 window(기본 1시간) 안에 다시 보내지 않기" 판정.
+ * <p>
+ * 메모리 구조
+ * - (userId, findId) 를 long 하나로 묶어(상위 32비트 userId, 하위 32비트 findId) 박싱 없는 오픈 어드레싱 테이블에 보관
+ * - 타임휠(window 를 60칸으로 나눈 슬롯)로 만료: 슬롯이 window 를 지나면 그 슬롯에 기록된 키만 골라 제거
+ * - max-entries 를 넘으면 가장 오래된 슬롯부터 강제 제거(메모리 상한 보장)
+ * <p>
+ * 영속 모드(persistent=true)
+ * - find_notification_log 테이블에 선점(claim)을 기록해 여러 인스턴스/재시작 간에 상태를 공유합니다.
+ * - 로컬 테이블은 DB 앞단의 캐시 역할: 로컬 적중이면 DB 를 보지 않습니다.
+ * - 다른 인스턴스가 먼저 보낸 경우 로컬에는 "지금" 시각으로 기록하므로, 재알림은 최대 window 만큼 늦어질 수 있습니다.
+ * <p>
+ * 지표(Micrometer)
+ * - find.notify.dedupe.size / hits / misses / hit.ratio / evictions(reason=expired|capacity) / conflicts
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FindNotificationDedupe {
+
+    private static final int WHEEL_SLOTS = 60;
+    private static final int PURGE_BATCH = 5000;
+
+    private final FindNotificationLogRepository findNotificationLogRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.find.notify-dedupe.window-ms:3600000}")
+    private long windowMs;
+
+    @Value("${custom.find.notify-dedupe.max-entries:500000}")
+    private int maxEntries;
+
+    @Value("${custom.find.notify-dedupe.persistent:false}")
+    private boolean persistent;
+
+    private long slotMs;
+    // 슬롯 재사용 시점에 이전 기록이 모두 window 를 지나 있도록 2칸 여유
+    private final Slot[] wheel = new Slot[WHEEL_SLOTS + 2];
+    private final LongStampTable table = new LongStampTable();
+
+    private Counter hits;
+    private Counter misses;
+    private Counter expiredEvictions;
+    private Counter capacityEvictions;
+    private Counter conflicts;
+
+    @PostConstruct
+    public void init() {
+        slotMs = Math.max(1, windowMs / WHEEL_SLOTS);
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Slot();
+        }
+
+        hits = meterRegistry.counter("find.notify.dedupe.hits");
+        misses = meterRegistry.counter("find.notify.dedupe.misses");
+        expiredEvictions = meterRegistry.counter("find.notify.dedupe.evictions", "reason", "expired");
+        capacityEvictions = meterRegistry.counter("find.notify.dedupe.evictions", "reason", "capacity");
+        conflicts = meterRegistry.counter("find.notify.dedupe.conflicts");
+        Gauge.builder("find.notify.dedupe.size", table, t -> t.size)
+                .register(meterRegistry);
+        Gauge.builder("find.notify.dedupe.hit.ratio", this, d -> {
+                    double h = d.hits.count();
+                    double total = h + d.misses.count();
+                    return total == 0 ? 0 : h / total;
+                })
+                .register(meterRegistry);
+
+        log.info("[FIND-DEDUPE] windowMs={} maxEntries={} persistent={}", windowMs, maxEntries, persistent);
+    }
+
+    /**
+     * 알림을 보내도 되는지 판정하고, 보내도 되면 즉시 "보냄"으로 기록합니다.
+     *
+     * @return true = 이번에 알림을 보내야 함, false = window 안에 이미 보냄
+     */
+    public boolean tryAcquire(long userId, long findId) {
+        long key = pack(userId, findId);
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            long stamp = table.get(key);
+            if (stamp != 0 && now - stamp < windowMs) {
+                hits.increment();
+                return false;
+            }
+            record(key, now);
+        }
+        misses.increment();
+
+        if (persistent && !claim(userId, findId, now)) {
+            // 다른 인스턴스(또는 재시작 전)가 이미 보냄 → 로컬 기록은 유지하고 건너뜀
+            conflicts.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * window 가 지난 슬롯 정리
+     */
+    @Scheduled(fixedDelayString = "${custom.find.notify-dedupe.tick-ms:60000}")
+    public void tick() {
+        long oldestLive = System.currentTimeMillis() / slotMs - WHEEL_SLOTS - 1;
+        synchronized (this) {
+            for (Slot slot : wheel) {
+                if (slot.count > 0 && slot.epoch <= oldestLive) {
+                    expiredEvictions.increment(expire(slot));
+                }
+            }
+        }
+    }
+
+    /**
+     * 영속 모드: window 가 지난 DB 기록 삭제
+     */
+    @Scheduled(fixedDelayString = "${custom.find.notify-dedupe.purge-interval-ms:600000}")
+    public void purgeExpiredLogs() {
+        if (!persistent) return;
+
+        LocalDateTime cutoff = toLocalDateTime(System.currentTimeMillis() - windowMs);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = findNotificationLogRepository.deleteExpired(cutoff, PURGE_BATCH);
+            total += deleted;
+        } while (deleted == PURGE_BATCH);
+
+        if (total > 0) {
+            log.info("[FIND-DEDUPE] purged {} expired notification logs", total);
+        }
+    }
+
+    private boolean claim(long userId, long findId, long now) {
+        LocalDateTime nowTime = toLocalDateTime(now);
+        try {
+            if (findNotificationLogRepository.insertIfAbsent(userId, findId, nowTime) == 1) {
+                return true;
+            }
+            LocalDateTime cutoff = toLocalDateTime(now - windowMs);
+            return findNotificationLogRepository.renewIfExpired(userId, findId, nowTime, cutoff) == 1;
+        } catch (Exception e) {
+            // DB 장애 시에는 로컬 판정으로 진행(알림 누락보다 드문 중복을 택함)
+            log.warn("[FIND-DEDUPE] claim failed user={} find={} err={}", userId, findId, e.toString());
+            return true;
+        }
+    }
+
+    // ===================== 타임휠 (this 동기화 안에서만 호출) =====================
+
+    private void record(long key, long now) {
+        long epoch = now / slotMs;
+        Slot slot = wheel[(int) (epoch % wheel.length)];
+        if (slot.epoch != epoch) {
+            if (slot.count > 0) {
+                expiredEvictions.increment(expire(slot));
+            }
+            slot.epoch = epoch;
+        }
+
+        if (table.get(key) == 0) {
+            while (table.size >= maxEntries && evictOldest()) {
+                // 상한 아래로 내려갈 때까지 오래된 슬롯부터 제거
+            }
+        }
+        table.put(key, now);
+        slot.add(key);
+    }
+
+    private boolean evictOldest() {
+        Slot oldest = null;
+        for (Slot slot : wheel) {
+            if (slot.count > 0 && (oldest == null || slot.epoch < oldest.epoch)) {
+                oldest = slot;
+            }
+        }
+        if (oldest == null) return false;
+        capacityEvictions.increment(expire(oldest));
+        return true;
+    }
+
+    /**
+     * 슬롯에 기록된 키 중, 그 뒤로 다시 기록되지 않은(같은 슬롯 시각인) 키만 제거
+     */
+    private int expire(Slot slot) {
+        int removed = 0;
+        for (int i = 0; i < slot.count; i++) {
+            long key = slot.keys[i];
+            long stamp = table.get(key);
+            if (stamp != 0 && stamp / slotMs == slot.epoch) {
+                table.remove(key);
+                removed++;
+            }
+        }
+        slot.clear();
+        return removed;
+    }
+
+    private static long pack(long userId, long findId) {
+        return (userId << 32) | (findId & 0xFFFFFFFFL);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    // ===================== 내부 타입 =====================
+
+    /**
+     * 타임휠 한 칸: 해당 시간대에 기록된 키 목록
+     */
+    private static final class Slot {
+        long epoch = Long.MIN_VALUE;
+        long[] keys = new long[16];
+        int count;
+
+        void add(long key) {
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+            }
+            keys[count++] = key;
+        }
+
+        void clear() {
+            count = 0;
+            if (keys.length > 4096) {
+                keys = new long[16];
+            }
+        }
+    }
+
+    /**
+     * long 키 → long 시각 오픈 어드레싱(선형 탐사) 테이블
+     * - 키 0 은 빈 칸 표시로 사용 (userId, findId 는 1 이상이므로 pack 결과가 0 이 될 수 없음)
+     * - 삭제는 backward-shift 로 처리해 tombstone 이 남지 않습니다.
+     */
+    private static final class LongStampTable {
+        long[] keys = new long[1024];
+        long[] stamps = new long[1024];
+        volatile int size;
+
+        long get(long key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == key) return stamps[i];
+                if (k == 0) return 0;
+            }
+        }
+
+        void put(long key, long stamp) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == key) {
+                    stamps[i] = stamp;
+                    return;
+                }
+                if (k == 0) {
+                    keys[i] = key;
+                    stamps[i] = stamp;
+                    size++;
+                    return;
+                }
+            }
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != key) {
+                if (keys[i] == 0) return;
+                i = (i + 1) & mask;
+            }
+            keys[i] = 0;
+            size--;
+
+            // 뒤따르는 클러스터를 당겨 탐사 경로가 끊기지 않도록 유지
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                long k = keys[j];
+                if (k == 0) return;
+                int home = hash(k) & mask;
+                boolean between = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+                if (between) continue;
+                keys[i] = k;
+                stamps[i] = stamps[j];
+                keys[j] = 0;
+                i = j;
+            }
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            long[] oldStamps = stamps;
+            keys = new long[capacity];
+            stamps = new long[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldStamps[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            key ^= key >>> 33;
+            key *= 0xff51afd7ed558ccdL;
+            key ^= key >>> 33;
+            return (int) key;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.common.util.S3UploaderService;
+import io.github.nokasegu.post_here.find.domain.FindOverwriteVersionEntity;
+import io.github.nokasegu.post_here.find.repository.FindOverwriteVersionRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * FindOverwriteService
+ * <p>
+ * 역할
+ * - fin'd 덧쓰기 이미지를 tile-size 크기 타일로 나눠, 타일 내용 해시를 키로 S3 에 저장합니다.
+ * - 버전마다 타일 해시 목록(매니페스트)만 find_overwrite_version 에 남기고,
+ * 직전 버전에 없던 타일만 업로드합니다. → 일부만 고친 덧쓰기는 바뀐 타일만 PUT, DELETE 없음
+ * <p>
+ * 읽기
+ * - 덧쓰기 이미지 URL 은 /find/{findId}/overwrite/{version} 이며, 매니페스트의 타일을 합성한 PNG 를 내려줍니다.
+ * - 버전의 내용은 바뀌지 않으므로 합성 결과를 (findId, version) 단위로 메모리 LRU 에 보관합니다.
+ * - 같은 버전에 대한 동시 합성은 하나로 합칩니다(single-flight).
+ * <p>
+ * 정리
+ * - 타일 객체 키는 fin'd 별(overwrite-tiles/{findId}/{hash}.png)이라 다른 fin'd 의 매니페스트와 공유되지 않습니다.
+ * → fin'd 를 지울 때 그 fin'd 의 모든 버전이 참조하는 타일을 함께 지우면 남는 참조가 없음 (삭제, 만료 정리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FindOverwriteService {
+
+    private static final String TILE_DIR = "overwrite-tiles/";
+
+    private final FindOverwriteVersionRepository findOverwriteVersionRepository;
+    private final S3UploaderService s3UploaderService;
+
+    @Value("${custom.find.overwrite.tile-size:256}")
+    private int tileSize;
+
+    @Value("${custom.find.overwrite.compose-cache-size:64}")
+    private int composeCacheSize;
+
+    // "findId:version" → 합성 PNG (access-order LRU)
+    private final Map<String, byte[]> composed = Collections.synchronizedMap(
+            new LinkedHashMap<String, byte[]>(128, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                    return size() > composeCacheSize;
+                }
+            });
+
+    // "findId:version" → 진행 중인 합성
+    private final Map<String, CompletableFuture<byte[]>> inflight = new ConcurrentHashMap<>();
+
+    private final ExecutorService tileExecutor = Executors.newFixedThreadPool(4, r -> {
+        Thread t = new Thread(r, "find-overwrite-tile");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        tileExecutor.shutdown();
+    }
+
+    /**
+     * 덧쓰기 이미지를 새 버전으로 저장하고, 그 버전을 읽을 URL 을 반환합니다.
+     * - 버전 번호는 직전 버전 + 1 이므로 호출부는 fin'd 행을 잠근 트랜잭션 안에서 호출합니다. (FindService.updateFind)
+     */
+    public String saveVersion(Long findId, MultipartFile image) throws IOException {
+        BufferedImage img;
+        try (InputStream in = image.getInputStream()) {
+            img = ImageIO.read(in);
+        }
+        if (img == null) {
+            throw new IOException("덧쓰기 이미지를 읽을 수 없습니다.");
+        }
+
+        FindOverwriteVersionEntity prev = findOverwriteVersionRepository
+                .findTopByFindIdOrderByVersionDesc(findId).orElse(null);
+        Set<String> stored = (prev != null && prev.getTileSize() == tileSize)
+                ? new HashSet<>(Arrays.asList(prev.getTiles().split(",")))
+                : Set.of();
+
+        int width = img.getWidth();
+        int height = img.getHeight();
+        int cols = (width + tileSize - 1) / tileSize;
+        int rows = (height + tileSize - 1) / tileSize;
+
+        String[] hashes = new String[cols * rows];
+        Map<String, BufferedImage> changed = new LinkedHashMap<>();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                BufferedImage tile = img.getSubimage(c * tileSize, r * tileSize,
+                        Math.min(tileSize, width - c * tileSize), Math.min(tileSize, height - r * tileSize));
+                String hash = hashOf(tile);
+                hashes[r * cols + c] = hash;
+                if (!stored.contains(hash)) {
+                    changed.putIfAbsent(hash, tile);
+                }
+            }
+        }
+
+        uploadTiles(findId, changed);
+
+        int version = (prev == null) ? 1 : prev.getVersion() + 1;
+        findOverwriteVersionRepository.save(FindOverwriteVersionEntity.builder()
+                .findId(findId)
+                .version(version)
+                .width(width)
+                .height(height)
+                .tileSize(tileSize)
+                .tiles(String.join(",", hashes))
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        log.info("[FIND-OVERWRITE] find={} version={} tiles={} uploaded={}", findId, version, hashes.length, changed.size());
+        return readUrl(findId, version);
+    }
+
+    /**
+     * 버전의 타일을 합성한 PNG
+     */
+    public byte[] compose(Long findId, int version) throws IOException {
+        String key = findId + ":" + version;
+
+        byte[] cached = composed.get(key);
+        if (cached != null) return cached;
+
+        CompletableFuture<byte[]> mine = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inflight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw new IOException("덧쓰기 이미지 합성에 실패했습니다.", e.getCause());
+            }
+        }
+
+        try {
+            byte[] png = composeNow(findId, version);
+            composed.put(key, png);
+            mine.complete(png);
+            return png;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 여러 fin'd 의 모든 버전이 참조하는 타일 객체 URL (중복 제거)
+     */
+    public List<String> tileUrlsOf(Collection<Long> findIds) {
+        if (findIds.isEmpty()) return List.of();
+
+        Set<String> urls = new LinkedHashSet<>();
+        for (Object[] row : findOverwriteVersionRepository.findTilesByFindIds(findIds)) {
+            Long findId = (Long) row[0];
+            for (String hash : ((String) row[1]).split(",")) {
+                urls.add(tileUrl(findId, hash));
+            }
+        }
+        return new ArrayList<>(urls);
+    }
+
+    public void deleteVersions(Collection<Long> findIds) {
+        if (findIds.isEmpty()) return;
+        findOverwriteVersionRepository.deleteByFindIds(findIds);
+    }
+
+    /**
+     * 삭제한 fin'd 의 타일 객체를 지웁니다. (tileUrlsOf 로 미리 받아 둔 목록, 실패는 로그만 남김)
+     */
+    public void deleteTiles(List<String> tileUrls) {
+        if (tileUrls.isEmpty()) return;
+        try {
+            int failed = s3UploaderService.deleteAll(tileUrls);
+            if (failed > 0) {
+                log.warn("[FIND-OVERWRITE] tile delete failed {}/{}", failed, tileUrls.size());
+            }
+        } catch (Exception e) {
+            log.warn("[FIND-OVERWRITE] tile delete failed size={} err={}", tileUrls.size(), e.toString());
+        }
+    }
+
+    private byte[] composeNow(Long findId, int version) throws IOException {
+        FindOverwriteVersionEntity manifest = findOverwriteVersionRepository.findByFindIdAndVersion(findId, version)
+                .orElseThrow(() -> new EntityNotFoundException("덧쓰기 버전을 찾을 수 없습니다."));
+
+        String[] hashes = manifest.getTiles().split(",");
+        int size = manifest.getTileSize();
+        int cols = (manifest.getWidth() + size - 1) / size;
+
+        // 같은 내용의 타일(빈 영역 등)은 한 번만 내려받음
+        Map<String, CompletableFuture<BufferedImage>> tiles = new HashMap<>();
+        for (String hash : hashes) {
+            tiles.computeIfAbsent(hash, h -> CompletableFuture.supplyAsync(() -> readTile(findId, h), tileExecutor));
+        }
+
+        BufferedImage canvas = new BufferedImage(manifest.getWidth(), manifest.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = canvas.createGraphics();
+        try {
+            for (int i = 0; i < hashes.length; i++) {
+                g.drawImage(tiles.get(hashes[i]).join(), (i % cols) * size, (i / cols) * size, null);
+            }
+        } catch (CompletionException e) {
+            throw new IOException("덧쓰기 타일을 읽을 수 없습니다.", e.getCause());
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(canvas, "png", out);
+        return out.toByteArray();
+    }
+
+    private void uploadTiles(Long findId, Map<String, BufferedImage> tiles) throws IOException {
+        List<CompletableFuture<Void>> uploads = new ArrayList<>(tiles.size());
+        for (Map.Entry<String, BufferedImage> e : tiles.entrySet()) {
+            uploads.add(CompletableFuture.runAsync(() -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try {
+                    ImageIO.write(e.getValue(), "png", out);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                s3UploaderService.uploadBytes(out.toByteArray(), "image/png", tileUrl(findId, e.getKey()));
+            }, tileExecutor));
+        }
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw new IOException("덧쓰기 타일 업로드에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private BufferedImage readTile(Long findId, String hash) {
+        try {
+            BufferedImage tile = ImageIO.read(new ByteArrayInputStream(s3UploaderService.download(tileUrl(findId, hash))));
+            if (tile == null) throw new IOException("타일 형식 오류 " + hash);
+            return tile;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 타일 픽셀(ARGB)과 크기로 만든 내용 해시 (SHA-256 앞 128bit, hex)
+     */
+    private static String hashOf(BufferedImage tile) {
+        int w = tile.getWidth();
+        int h = tile.getHeight();
+        int[] pixels = tile.getRGB(0, 0, w, h, null, 0, w);
+
+        ByteBuffer buf = ByteBuffer.allocate(8 + pixels.length * 4);
+        buf.putInt(w).putInt(h);
+        buf.asIntBuffer().put(pixels);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(buf.array());
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String tileUrl(Long findId, String hash) {
+        return s3UploaderService.urlOf(TILE_DIR + findId + "/" + hash + ".png");
+    }
+
+    private static String readUrl(Long findId, int version) {
+        return "/find/" + findId + "/overwrite/" + version;
+    }
+}
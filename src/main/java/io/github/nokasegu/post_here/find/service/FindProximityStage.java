@@ -0,0 +1,166 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.find.dto.FindNearbyReadableOnlyDto;
+import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FindProximityStage
+ * <p>
+ * 역할
+ * - 위치 핑의 "50m 이내 fin'd 판정 + FIND_FOUND 알림(DB 저장, FCM 발송)"을 요청 스레드에서 떼어내
+ * 백그라운드 워커가 처리하도록 하는 비동기 단계.
+ * - /location 응답은 포럼 지역만 계산해 즉시 반환하므로 FCM 지연과 무관해집니다.
+ * <p>
+ * 동작
+ * - submit(user, lng, lat): 사용자별 "가장 최근 좌표"만 pending 에 덮어쓰고, 처음 들어온 경우에만 큐에 넣습니다.
+ * → 워커가 처리하기 전에 같은 사용자의 핑이 여러 번 오면 마지막 좌표로 한 번만 평가(coalescing).
+ * - submitReadable(user, readable): /location/tick 처럼 요청 스레드에서 이미 열람 가능 목록을 구한 경우
+ * 판정 없이 FIND_FOUND 알림만 워커에서 보냅니다. (같은 사용자의 대기 중인 핑과 합쳐짐)
+ * - 마지막 위치(UserLastLocationStore)는 로그인한 사용자 본인의 핑으로만 기록합니다.
+ * (body 의 이메일로 들어온 핑은 따로 모아 평가만 하고, 로그인 핑의 좌표를 덮어쓰지 않음)
+ * - 큐는 queue-capacity 로 제한되며, 가득 차면 해당 핑은 버리고 카운트만 남깁니다(다음 핑에서 다시 평가).
+ * - 지표: find.proximity.stage.pings (result=submitted|coalesced|dropped), find.proximity.stage.queue.size
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FindProximityStage {
+
+    private final FindService findService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.find.proximity-stage.workers:2}")
+    private int workers;
+
+    @Value("${custom.find.proximity-stage.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // (userEmail, 로그인 여부) → 가장 최근 핑
+    private final Map<Key, Ping> pending = new ConcurrentHashMap<>();
+    private BlockingQueue<Key> queue;
+    private ExecutorService executor;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "find-proximity");
+            t.setDaemon(true);
+            return t;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::runWorker);
+        }
+
+        registerPings("submitted", submitted);
+        registerPings("coalesced", coalesced);
+        registerPings("dropped", dropped);
+        Gauge.builder("find.proximity.stage.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        log.info("[FIND-STAGE] started. workers={} queueCapacity={}", workers, queueCapacity);
+    }
+
+    private void registerPings(String result, AtomicLong count) {
+        FunctionCounter.builder("find.proximity.stage.pings", count, AtomicLong::get)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        log.info("[FIND-STAGE] stopped. submitted={} coalesced={} dropped={}",
+                submitted.get(), coalesced.get(), dropped.get());
+    }
+
+    /**
+     * 위치 이벤트 등록 (요청 스레드에서 호출, 블로킹 없음)
+     *
+     * @param authenticated 로그인한 사용자 본인의 핑인지 (true 일 때만 마지막 위치 기록)
+     */
+    public void submit(String userEmail, double lng, double lat, boolean authenticated) {
+        if (userEmail == null) return;
+        enqueue(new Key(userEmail, authenticated), new Ping(lng, lat, null, null));
+    }
+
+    /**
+     * 이미 구한 열람 가능 목록의 알림만 등록 (로그인한 사용자 본인, 목록이 비어 있으면 무시)
+     */
+    public void submitReadable(String userEmail, UserInfoEntity user, List<FindNearbyReadableOnlyDto> readable) {
+        if (userEmail == null || user == null || readable == null || readable.isEmpty()) return;
+        enqueue(new Key(userEmail, true), new Ping(0, 0, user, readable));
+    }
+
+    private void enqueue(Key key, Ping ping) {
+        submitted.incrementAndGet();
+
+        if (pending.put(key, ping) != null) {
+            // 이미 대기 중인 사용자 → 최신 핑으로만 갱신
+            coalesced.incrementAndGet();
+            return;
+        }
+        while (!queue.offer(key)) {
+            // 큐에 넣지 못한 바로 그 핑만 뺌 (그사이 덮어쓴 새 핑은 지우지 않음)
+            if (pending.remove(key, ping)) {
+                long n = dropped.incrementAndGet();
+                if (n % 1000 == 1) {
+                    log.warn("[FIND-STAGE] queue full, dropping pings. dropped={}", n);
+                }
+                return;
+            }
+            // 덮어쓴 핑도 큐 항목이 없으므로 다시 넣어 봄 (이미 워커가 가져갔으면 종료)
+            ping = pending.get(key);
+            if (ping == null) return;
+        }
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Key key;
+            try {
+                key = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            Ping ping = pending.remove(key);
+            if (ping == null) continue;
+
+            try {
+                if (ping.readable() != null) {
+                    findService.notifyReadable(ping.user(), ping.readable());
+                } else {
+                    findService.checkFindReadable(ping.lng(), ping.lat(), key.userEmail(), key.authenticated());
+                }
+            } catch (Exception e) {
+                log.warn("[FIND-STAGE] evaluation failed user={} err={}", key.userEmail(), e.toString(), e);
+            }
+        }
+    }
+
+    private record Key(String userEmail, boolean authenticated) {
+    }
+
+    // readable == null: 워커에서 판정부터, 아니면 알림만
+    private record Ping(double lng, double lat, UserInfoEntity user, List<FindNearbyReadableOnlyDto> readable) {
+    }
+}
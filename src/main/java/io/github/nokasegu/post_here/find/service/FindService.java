@@ -1,9 +1,12 @@
 package io.github.nokasegu.post_here.find.service;
 
+import io.github.nokasegu.post_here.common.util.GeoUtil;
 import io.github.nokasegu.post_here.common.util.S3UploaderService;
 import io.github.nokasegu.post_here.find.domain.FindEntity;
 import io.github.nokasegu.post_here.find.dto.*;
 import io.github.nokasegu.post_here.find.repository.FindRepository;
+import io.github.nokasegu.post_here.location.service.ReverseGeocodingService;
+import io.github.nokasegu.post_here.location.service.UserLastLocationStore;
 import io.github.nokasegu.post_here.notification.service.FcmSenderService;
 import io.github.nokasegu.post_here.notification.service.NotificationService;
 import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
@@ -15,24 +18,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -47,19 +48,100 @@ public class FindService {
     private final NotificationService notificationService;
     private final S3UploaderService s3UploaderService;
     private final GeometryFactory geometryFactory;
-
-    private final Map<Long, Map<Long, Instant>> userNotificationTimestamps = new ConcurrentHashMap<>();
+    private final FindGeoIndex findGeoIndex;
+    private final FindCandidateCache findCandidateCache;
+    private final FindNotificationDedupe findNotificationDedupe;
+    private final FindNearbyFanout findNearbyFanout;
+    private final UserLastLocationStore userLastLocationStore;
+    private final FindTileClusterService findTileClusterService;
+    private final FindOverwriteService findOverwriteService;
+    private final ReverseGeocodingService reverseGeocodingService;
+
+    // 지도 마커 표시 반경 / 열람 가능 반경 (m)
+    private static final double MARKER_RADIUS_METERS = 200;
+    public static final double READABLE_RADIUS_METERS = 50;
+    private static final int MAX_FEED_PAGE_SIZE = 30;
+
+    // 인덱스 미사용 시 DB 조회 방식: bounded(MBR 선필터, 기본) | legacy(전체 거리 계산 후 HAVING)
+    @Value("${custom.find.nearby-query:bounded}")
+    private String nearbyQueryMode;
 
     // --- (이하 기존 코드들은 변경 없이 그대로 유지됩니다) ---
 
     public List<FindNearbyResponseDto> getFindsInArea(double lng, double lat, Long userId) {
 
-        List<FindNearbyDto> nearbyAll = findRepository.findNearby(lng, lat, userId);
+        List<FindNearbyDto> nearbyAll = findNearby(lng, lat, userId);
+
+        return toResponse(nearbyAll);
+    }
+
+    /**
+     * 50m 이내 fin'd 판정 + FIND_FOUND 알림 (FindProximityStage 워커에서 호출)
+     *
+     * @param recordLocation 마지막 위치로 기록할지 (로그인한 사용자 본인의 핑일 때만 true)
+     */
+    public void checkFindReadable(double lng, double lat, String userEmail, boolean recordLocation) {
+        UserInfoEntity user = userInfoService.getUserInfoByEmail(userEmail);
+        if (recordLocation) {
+            userLastLocationStore.record(user.getId(), lng, lat);
+        }
+        List<FindNearbyReadableOnlyDto> nearbyFinds = findNearbyReadableOnly(lng, lat, user.getId());
+
+        notifyReadable(user, nearbyFinds);
+    }
+
+    /**
+     * 위치 핑 1회 처리 (/location/tick)
+     * - 사용자 조회 1회, 후보 목록 한 번 훑기로 마커(200m), 가장 가까운 거리, 열람 가능(50m) 목록을 함께 구합니다.
+     * - 로그인한 사용자 본인의 핑이므로 마지막 위치도 기록합니다.
+     * - FIND_FOUND 알림은 호출한 쪽이 readable 을 FindProximityStage 에 넘겨 비동기로 보냅니다.
+     */
+    public FindTickDto evaluateTick(double lng, double lat, String userEmail) {
+        UserInfoEntity user = userInfoService.getUserInfoByEmail(userEmail);
+        userLastLocationStore.record(user.getId(), lng, lat);
+
+        List<FindNearbyDto> nearby;
+        double nearest;
+        if (findCandidateCache.isAvailable()) {
+            FindCandidateCache.Scan scan = findCandidateCache.scan(user.getId(), lat, lng, MARKER_RADIUS_METERS);
+            nearby = scan.hits().stream().map(FindService::toNearbyDto).collect(Collectors.toList());
+            nearest = scan.nearestDistance();
+        } else {
+            nearby = findNearby(lng, lat, user.getId());
+            nearest = Double.NaN;
+        }
+
+        List<FindNearbyReadableOnlyDto> readable = nearby.stream()
+                .filter(dto -> dto.getDistanceInMeters() <= READABLE_RADIUS_METERS)
+                .map(dto -> new FindNearbyReadableOnlyDto(dto.getFind_pk(), dto.getNickname(),
+                        dto.getProfile_image_url(), dto.getDistanceInMeters()))
+                .collect(Collectors.toList());
+
+        return FindTickDto.builder()
+                .user(user)
+                .markers(toResponse(nearby))
+                .nearestFindMeters(nearest)
+                .readable(readable)
+                .build();
+    }
+
+    /**
+     * 팔로우 작성자의 활성 fin'd 중 가장 가까운 것까지의 거리(m) - 다음 핑 간격 힌트용
+     * - 후보 캐시를 쓸 수 없으면(인덱스 적재 전) empty, 후보가 없으면 POSITIVE_INFINITY
+     */
+    public OptionalDouble getNearestFindDistance(double lng, double lat, String userEmail) {
+        if (!findCandidateCache.isAvailable()) {
+            return OptionalDouble.empty();
+        }
+        UserInfoEntity user = userInfoService.getUserInfoByEmail(userEmail);
+        return OptionalDouble.of(findCandidateCache.nearestDistance(user.getId(), lat, lng));
+    }
 
+    private List<FindNearbyResponseDto> toResponse(List<FindNearbyDto> nearbyAll) {
         return nearbyAll.stream()
                 .map(dto -> {
                     // 거리에 따라 region 값을 결정합니다 (삼항 연산자 사용).
-                    int regionValue = (dto.getDistanceInMeters() <= 50) ? 1 : 2;
+                    int regionValue = (dto.getDistanceInMeters() <= READABLE_RADIUS_METERS) ? 1 : 2;
 
                     // FindNearbyDto를 FindNearbyResponseDto로 변환하여 반환합니다.
                     return FindNearbyResponseDto.builder()
@@ -74,10 +156,10 @@ public class FindService {
                 .collect(Collectors.toList());
     }
 
-    public void checkFindReadable(double lng, double lat, String userEmail) {
-        UserInfoEntity user = userInfoService.getUserInfoByEmail(userEmail);
-        List<FindNearbyReadableOnlyDto> nearbyFinds = findRepository.findNearbyReadableOnly(lng, lat, user.getId());
-
+    /**
+     * 열람 가능 fin'd 에 대한 FIND_FOUND 알림 (1시간 내 같은 fin'd 재알림 없음, FindProximityStage 워커에서도 호출)
+     */
+    public void notifyReadable(UserInfoEntity user, List<FindNearbyReadableOnlyDto> nearbyFinds) {
         if (nearbyFinds.isEmpty()) {
             log.info("사용자 {} 주변에 새로운 Fin'd가 없습니다.", user.getNickname());
             return;
@@ -87,11 +169,10 @@ public class FindService {
         String nickname = null;
 
         for (FindNearbyReadableOnlyDto find : nearbyFinds) {
-            boolean alreadyNotified = hasBeenNotifiedRecently(user.getId(), find.getFind_pk());
-            if (!alreadyNotified) {
+            // 1시간 이내에 보낸 적이 없으면 이번에 보냄으로 기록
+            if (findNotificationDedupe.tryAcquire(user.getId(), find.getFind_pk())) {
                 count++;
                 nickname = find.getNickname();
-                recordNotification(user.getId(), find.getFind_pk());
             } else {
                 log.info("{}에게 {}번 알림은 이미 보냄.", user.getNickname(), find.getFind_pk());
             }
@@ -104,6 +185,51 @@ public class FindService {
         }
     }
 
+    /**
+     * 200m 이내 팔로우 작성자의 fin'd 조회
+     * - 사용자별 후보 캐시(FindCandidateCache)를 쓸 수 있으면 메모리에서, 아니면 DB 공간 쿼리로 조회합니다.
+     */
+    private List<FindNearbyDto> findNearby(double lng, double lat, Long userId) {
+        if (!findCandidateCache.isAvailable()) {
+            if ("legacy".equals(nearbyQueryMode)) {
+                return findRepository.findNearby(lng, lat, userId);
+            }
+            double dLat = GeoUtil.latDelta(MARKER_RADIUS_METERS);
+            double dLng = GeoUtil.lngDelta(lat, MARKER_RADIUS_METERS);
+            return findRepository.findNearbyBounded(lng, lat, lng - dLng, lat - dLat, lng + dLng, lat + dLat,
+                    MARKER_RADIUS_METERS, userId);
+        }
+        return findCandidateCache.findWithin(userId, lat, lng, MARKER_RADIUS_METERS)
+                .stream()
+                .map(FindService::toNearbyDto)
+                .collect(Collectors.toList());
+    }
+
+    private static FindNearbyDto toNearbyDto(FindGeoIndex.Hit hit) {
+        return new FindNearbyDto(hit.findId(), hit.nickname(), hit.profileImageUrl(),
+                hit.lng(), hit.lat(), hit.distanceInMeters());
+    }
+
+    /**
+     * 50m 이내(열람 가능) 팔로우 작성자의 fin'd 조회
+     */
+    private List<FindNearbyReadableOnlyDto> findNearbyReadableOnly(double lng, double lat, Long userId) {
+        if (!findCandidateCache.isAvailable()) {
+            if ("legacy".equals(nearbyQueryMode)) {
+                return findRepository.findNearbyReadableOnly(lng, lat, userId);
+            }
+            double dLat = GeoUtil.latDelta(READABLE_RADIUS_METERS);
+            double dLng = GeoUtil.lngDelta(lat, READABLE_RADIUS_METERS);
+            return findRepository.findNearbyReadableOnlyBounded(lng, lat, lng - dLng, lat - dLat, lng + dLng, lat + dLat,
+                    READABLE_RADIUS_METERS, userId);
+        }
+        return findCandidateCache.findWithin(userId, lat, lng, READABLE_RADIUS_METERS)
+                .stream()
+                .map(hit -> new FindNearbyReadableOnlyDto(hit.findId(), hit.nickname(), hit.profileImageUrl(),
+                        hit.distanceInMeters()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 사용자가 작성한 Find 게시물 목록을 페이지 단위로 조회
      */
@@ -115,7 +241,7 @@ public class FindService {
         return findsPage.map(find -> FindPostSummaryDto.builder()
                 .id(find.getId())
                 .imageUrl(find.getContentCaptureUrl())
-                .location("서울시 강남구") // TODO: 좌표->주소 변환 로직 필요
+                .location(FindDetailViewDto.locationNameOf(find))
                 .isExpiring(find.getExpirationDate() != null && find.getExpirationDate().isAfter(LocalDateTime.now()))
                 .createdAt(find.getCreatedAt())
                 .expiresAt(find.getExpirationDate())
@@ -135,7 +261,7 @@ public class FindService {
         return findsPage.map(find -> FindPostSummaryDto.builder()
                 .id(find.getId())
                 .imageUrl(find.getContentCaptureUrl())
-                .location("서울시 강남구") // TODO: 좌표->주소 변환 로직 필요
+                .location(FindDetailViewDto.locationNameOf(find))
                 .isExpiring(find.getExpirationDate() != null && find.getExpirationDate().isAfter(LocalDateTime.now()))
                 .createdAt(find.getCreatedAt())
                 .expiresAt(find.getExpirationDate())
@@ -143,50 +269,78 @@ public class FindService {
     }
 
 
-    /**
-     * 특정 사용자에게 특정 fin'd에 대한 알림이 최근에 보내졌는지 확인
-     */
-    private boolean hasBeenNotifiedRecently(Long userId, Long findId) {
-        Map<Long, Instant> userNotifications = userNotificationTimestamps.get(userId);
-        if (userNotifications == null) return false;
+    public void saveFind(FindRequestDto findRequestDto, String email) throws IOException {
 
-        Instant lastNotificationTime = userNotifications.get(findId);
-        if (lastNotificationTime == null) return false;
+        UserInfoEntity user = userInfoService.getUserInfoByEmail(email);
 
-        // 1시간 이내에 알림을 보냈는지 확인
-        return lastNotificationTime.isAfter(Instant.now().minus(1, ChronoUnit.HOURS));
-    }
+        MultipartFile capture = findRequestDto.getContent_capture();
+        String originUrl = s3UploaderService.reserveUrl(
+                "find/" + findRequestDto.getLat() + "_" + findRequestDto.getLng(), capture.getOriginalFilename());
+        String overwriteUrl = s3UploaderService.reserveUrl(
+                "overwrite/" + findRequestDto.getLat() + "_" + findRequestDto.getLng(), capture.getOriginalFilename());
 
-    /**
-     * 알림을 보낸 기록을 저장
-     */
-    private void recordNotification(Long userId, Long findId) {
-        userNotificationTimestamps
-                .computeIfAbsent(userId, k -> new ConcurrentHashMap<>())
-                .put(findId, Instant.now());
-    }
+        // 원본은 한 번만 스트리밍 업로드하고, overwrite 본은 S3 서버 측 복사로 만듭니다.
+        // 업로드가 진행되는 동안 DB insert 를 함께 수행합니다.
+        CompletableFuture<Void> upload = s3UploaderService.uploadAsync(capture, originUrl)
+                .thenRun(() -> s3UploaderService.copy(originUrl, overwriteUrl));
 
-    public void saveFind(FindRequestDto findRequestDto, String email) throws IOException {
+        Point point = geometryFactory.createPoint(new Coordinate(findRequestDto.getLng(), findRequestDto.getLat()));
+        // 주소는 작성 시 한 번만 구해 저장 (목록/상세 조회 시 역지오코딩 없음)
+        String address = resolveAddress(findRequestDto.getLng(), findRequestDto.getLat());
 
-        UserInfoEntity user = userInfoService.getUserInfoByEmail(email);
+        FindEntity saved;
+        try {
+            saved = findRepository.save(
+                    FindEntity.builder()
+                            .writer(user)
+                            .coordinates(point)
+                            .contentCaptureUrl(originUrl)
+                            .contentOverwriteUrl(overwriteUrl)
+                            .address(address)
+                            .expirationDate(makeTime(findRequestDto.getExpiration_date()))
+                            .build()
+            );
+        } catch (RuntimeException e) {
+            upload.whenComplete((v, ex) -> deleteObjectsQuietly(originUrl, overwriteUrl));
+            throw e;
+        }
 
-        String dirName1 = "find/" + findRequestDto.getLat() + "_" + findRequestDto.getLng();
-        String originUrl = s3UploaderService.upload(findRequestDto.getContent_capture(), dirName1);
+        try {
+            upload.join();
+        } catch (CompletionException e) {
+            // 업로드 실패 → 저장한 행과 올라간 객체를 되돌림
+            findRepository.deleteById(saved.getId());
+            deleteObjectsQuietly(originUrl, overwriteUrl);
+            throw new IOException("fin'd 이미지 업로드에 실패했습니다.", e.getCause());
+        }
 
-        String dirName2 = "overwrite/" + findRequestDto.getLat() + "_" + findRequestDto.getLng();
-        String overwriteUrl = s3UploaderService.upload(findRequestDto.getContent_capture(), dirName2);
+        findGeoIndex.add(saved);
+        findCandidateCache.onWriterFindsChanged(user.getId());
+        findTileClusterService.onFindChanged(findRequestDto.getLat(), findRequestDto.getLng());
+        // 이미 근처에 있는 팔로워에게는 핑을 기다리지 않고 바로 알림
+        findNearbyFanout.submit(saved, user);
+    }
 
-        Point point = geometryFactory.createPoint(new Coordinate(findRequestDto.getLng(), findRequestDto.getLat()));
+    /**
+     * 작성 위치의 주소 (실패 시 null → FindAddressBackfill 이 나중에 채움)
+     */
+    private String resolveAddress(double lng, double lat) {
+        try {
+            return reverseGeocodingService.getAddress(lng, lat);
+        } catch (Exception e) {
+            log.warn("fin'd 주소 조회 실패 lng={} lat={} {}", lng, lat, e.getMessage());
+            return null;
+        }
+    }
 
-        findRepository.save(
-                FindEntity.builder()
-                        .writer(user)
-                        .coordinates(point)
-                        .contentCaptureUrl(originUrl)
-                        .contentOverwriteUrl(overwriteUrl)
-                        .expirationDate(makeTime(findRequestDto.getExpiration_date()))
-                        .build()
-        );
+    private void deleteObjectsQuietly(String... urls) {
+        for (String url : urls) {
+            try {
+                s3UploaderService.delete(url);
+            } catch (Exception e) {
+                log.warn("S3 객체 정리 실패 {} {}", url, e.getMessage());
+            }
+        }
     }
 
     private LocalDateTime makeTime(String expiredDate) {
@@ -197,7 +351,31 @@ public class FindService {
     }
 
     public void deleteFind(Long findId) {
+        FindGeoIndex.IndexedFind indexed = findGeoIndex.get(findId);
+        // 덧쓰기 타일은 매니페스트가 삭제되기 전에 목록을 받아 둠
+        List<String> tileUrls = findOverwriteService.tileUrlsOf(List.of(findId));
         findRepository.deleteById(findId);
+        findOverwriteService.deleteVersions(List.of(findId));
+        findOverwriteService.deleteTiles(tileUrls);
+        findGeoIndex.remove(findId);
+        if (indexed != null) {
+            findCandidateCache.onWriterFindsChanged(indexed.writerId());
+            findTileClusterService.onFindChanged(indexed.lat(), indexed.lng());
+        }
+    }
+
+    /**
+     * 만료된 fin'd 한 묶음을 삭제(archive=true 이면 find_archive 로 옮긴 뒤 삭제)
+     * - FindExpirySweeper 가 청크 단위로 호출합니다. (청크마다 한 트랜잭션)
+     */
+    @Transactional
+    public int removeExpired(List<Long> ids, boolean archive) {
+        if (archive) {
+            findRepository.archiveByIds(ids);
+        } else {
+            findOverwriteService.deleteVersions(ids);
+        }
+        return findRepository.deleteByIds(ids);
     }
 
     public FindEntity getFindById(Long findId) {
@@ -206,65 +384,51 @@ public class FindService {
         );
     }
 
+    /**
+     * 덧쓰기 저장
+     * - 이미지를 타일 단위로 나눠 직전 버전과 달라진 타일만 올리고, 새 버전의 읽기 URL 로 바꿉니다. (FindOverwriteService)
+     * - 생성 시 복사해 둔 전체 이미지 객체는 첫 덧쓰기 때 한 번만 지웁니다.
+     * - fin'd 행을 잠근 뒤 저장하므로 같은 fin'd 에 동시에 덧쓰면 차례로 다음 버전이 됩니다.
+     */
     @Transactional
     public void updateFind(Long findId, MultipartFile image) throws IOException {
 
-        FindEntity find = getFindById(findId);
-
-        String dirName = getDirname(find.getContentOverwriteUrl());
-        s3UploaderService.delete(find.getContentOverwriteUrl());
-
-        String newUrl = s3UploaderService.upload(image, dirName);
-        find.setContentOverwriteUrl(newUrl);
-    }
-
-    private String getDirname(String url) {
-
-        String result = null;
-
-        try {
-            URI uri = new URI(url);
-            String path = uri.getPath();
+        FindEntity find = findRepository.findByIdForUpdate(findId).orElseThrow(
+                () -> new EntityNotFoundException("Find NOT FOUND")
+        );
+        String previousUrl = find.getContentOverwriteUrl();
 
-            int lastIndex = path.lastIndexOf("/");
-            result = path.substring(1, lastIndex);
+        find.setContentOverwriteUrl(findOverwriteService.saveVersion(findId, image));
 
-        } catch (URISyntaxException e) {
-            log.error("URL 구조가 올바르지 않습니다 : {}", e.getMessage());
+        if (s3UploaderService.isObjectUrl(previousUrl)) {
+            s3UploaderService.delete(previousUrl);
         }
-
-        log.info("{}", result);
-        return result;
     }
 
+    /**
+     * Fin'd 뷰어 피드 (키셋 페이지네이션)
+     * - 첫 페이지(cursor == null): 클릭한 게시물부터 그보다 오래된 게시물 size 개
+     * - 다음 페이지: id < cursor 인 게시물 size 개
+     * - size + 1 개를 읽어 다음 페이지 존재 여부를 판단합니다.
+     */
     @Transactional(readOnly = true)
-    public List<FindDetailViewDto> getFindFeed(Long startFindId, Long currentUserId) {
-        // 1. 클릭한 게시물을 기준으로 작성자를 찾습니다.
+    public FindFeedPageDto getFindFeed(Long startFindId, Long cursor, int size, Long currentUserId) {
         FindEntity startFind = findRepository.findById(startFindId)
                 .orElseThrow(() -> new EntityNotFoundException("Fin'd 게시물을 찾을 수 없습니다."));
         UserInfoEntity writer = startFind.getWriter();
 
-        // 2. 해당 작성자의 모든 게시물을 최신순으로 가져옵니다.
-        List<FindEntity> allFindsByWriter = findRepository.findAllByWriterWithDetails(writer);
-
-        // 3. 클릭한 게시물이 목록의 몇 번째인지 찾습니다.
-        int startIndex = -1;
-        for (int i = 0; i < allFindsByWriter.size(); i++) {
-            if (allFindsByWriter.get(i).getId().equals(startFindId)) {
-                startIndex = i;
-                break;
-            }
-        }
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        Long maxId = (cursor == null) ? startFindId : cursor - 1;
+        List<FindEntity> rows = findRepository.findFeedPage(writer, maxId, PageRequest.of(0, pageSize + 1));
 
-        // 4. 클릭한 게시물부터 시작하여 그보다 오래된 게시물들만 순서대로 새 목록에 담습니다.
-        List<FindEntity> orderedFeed = new ArrayList<>();
-        if (startIndex != -1) {
-            orderedFeed.addAll(allFindsByWriter.subList(startIndex, allFindsByWriter.size()));
-        }
+        boolean hasNext = rows.size() > pageSize;
+        List<FindEntity> page = hasNext ? rows.subList(0, pageSize) : rows;
 
-        // 5. 최종 목록을 DTO로 변환하여 반환합니다.
-        return orderedFeed.stream()
-                .map(entity -> new FindDetailViewDto(entity, currentUserId))
-                .collect(Collectors.toList());
+        return FindFeedPageDto.builder()
+                .posts(page.stream()
+                        .map(entity -> new FindDetailViewDto(entity, currentUserId))
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .build();
     }
 }
@@ -0,0 +1,202 @@
+package io.github.nokasegu.post_here.find.service;
+
+import io.github.nokasegu.post_here.find.dto.FindClusterDto;
+import io.github.nokasegu.post_here.find.service.FindGeoIndex.IndexedFind;
+import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
+import io.github.nokasegu.post_here.userInfo.service.UserInfoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * FindTileClusterService
+ * <p>
+ * 역할
+ * - 지도 화면(뷰포트 + 줌)에 보이는 팔로우 작성자 fin'd 를 격자 단위 클러스터(개수, 중심점, 대표 프로필)로 내려줍니다.
+ * <p>
+ * 타일 캐시
+ * - 뷰포트를 웹 메르카토르 타일(z/x/y)로 나누고, 타일마다 활성 fin'd 를 GRID×GRID 칸으로 미리 나눠 보관합니다.
+ * - 타일은 ttl-ms 가 지나거나, 타일 안에서 가장 먼저 만료되는 fin'd 의 만료 시각이 지나면 다시 구성합니다.
+ * - fin'd 생성/삭제 시 해당 좌표를 포함하는 모든 줌의 타일을 무효화합니다(onFindChanged).
+ * <p>
+ * - 칸 구성은 사용자와 무관하게 공유하고, 요청마다 칸 안에서 "팔로우 중인 작성자"만 세어 클러스터를 만듭니다.
+ * - 뷰포트가 max-tiles 개보다 많은 타일을 덮으면 줌을 낮춰 타일 수를 줄입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FindTileClusterService {
+
+    private static final int MIN_ZOOM = 3;
+    private static final int MAX_ZOOM = 20;
+    private static final int GRID = 8;
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private final FindGeoIndex findGeoIndex;
+    private final FindCandidateCache findCandidateCache;
+    private final UserInfoService userInfoService;
+
+    @Value("${custom.find.cluster.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${custom.find.cluster.max-tiles:64}")
+    private int maxTiles;
+
+    @Value("${custom.find.cluster.max-cached-tiles:20000}")
+    private int maxCachedTiles;
+
+    // (z, x, y) → 타일 칸 구성 (access-order LRU)
+    private final Map<Long, Tile> tiles = Collections.synchronizedMap(
+            new LinkedHashMap<Long, Tile>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Tile> eldest) {
+                    return size() > maxCachedTiles;
+                }
+            });
+
+    public List<FindClusterDto> getClusters(double minLat, double minLng, double maxLat, double maxLng,
+                                            int zoom, String userEmail) {
+        // 인덱스 적재 전에는 빈 결과 (다음 지도 이동 때 다시 요청)
+        if (!findGeoIndex.isReady() || !findCandidateCache.isAvailable()) {
+            return List.of();
+        }
+
+        UserInfoEntity user = userInfoService.getUserInfoByEmail(userEmail);
+        long[] followed = findCandidateCache.followedIds(user.getId());
+        if (followed.length == 0) return List.of();
+
+        double south = clampLat(Math.min(minLat, maxLat)), north = clampLat(Math.max(minLat, maxLat));
+        double west = Math.min(minLng, maxLng), east = Math.max(minLng, maxLng);
+        int z = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+
+        int xMin, xMax, yMin, yMax;
+        while (true) {
+            xMin = tileX(west, z);
+            xMax = tileX(east, z);
+            yMin = tileY(north, z);
+            yMax = tileY(south, z);
+            if (z == MIN_ZOOM || (long) (xMax - xMin + 1) * (yMax - yMin + 1) <= maxTiles) break;
+            z--;
+        }
+
+        long now = System.currentTimeMillis();
+        List<FindClusterDto> result = new ArrayList<>();
+        for (int x = xMin; x <= xMax; x++) {
+            for (int y = yMin; y <= yMax; y++) {
+                Tile tile = tileOf(z, x, y, now);
+                for (IndexedFind[] cell : tile.cells()) {
+                    if (cell != null) cluster(cell, followed, now, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * fin'd 가 생성/삭제된 좌표를 포함하는 타일을 모든 줌에서 무효화합니다.
+     */
+    public void onFindChanged(double lat, double lng) {
+        lat = clampLat(lat);
+        for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+            tiles.remove(key(z, tileX(lng, z), tileY(lat, z)));
+        }
+    }
+
+    private void cluster(IndexedFind[] cell, long[] followed, long now, List<FindClusterDto> out) {
+        int count = 0;
+        double sumLat = 0, sumLng = 0;
+        IndexedFind latest = null;
+        for (IndexedFind f : cell) {
+            if (f.expiresAt() < now || Arrays.binarySearch(followed, f.writerId()) < 0) continue;
+            count++;
+            sumLat += f.lat();
+            sumLng += f.lng();
+            if (latest == null || f.id() > latest.id()) latest = f;
+        }
+        if (count == 0) return;
+
+        out.add(FindClusterDto.builder()
+                .lat(sumLat / count)
+                .lng(sumLng / count)
+                .count(count)
+                .profileImageUrl(latest.profilePhotoUrl())
+                .findId(count == 1 ? latest.id() : null)
+                .build());
+    }
+
+    private Tile tileOf(int z, int x, int y, long now) {
+        long key = key(z, x, y);
+        Tile tile = tiles.get(key);
+        if (tile != null && now - tile.builtAt() < ttlMs && now < tile.minExpiresAt()) {
+            return tile;
+        }
+        tile = build(z, x, y, now);
+        tiles.put(key, tile);
+        return tile;
+    }
+
+    private Tile build(int z, int x, int y, long now) {
+        double west = tileLng(x, z), east = tileLng(x + 1, z);
+        double north = tileLat(y, z), south = tileLat(y + 1, z);
+
+        List<IndexedFind> finds = findGeoIndex.activeInBox(south, west, north, east);
+
+        List<List<IndexedFind>> buckets = new ArrayList<>(Collections.nCopies(GRID * GRID, null));
+        long minExpiresAt = Long.MAX_VALUE;
+        for (IndexedFind f : finds) {
+            // 셀 경계는 타일 내부 메르카토르 좌표 기준으로 나눔
+            int gx = (int) Math.min(GRID - 1, Math.max(0, Math.floor((mercX(f.lng(), z) - x) * GRID)));
+            int gy = (int) Math.min(GRID - 1, Math.max(0, Math.floor((mercY(f.lat(), z) - y) * GRID)));
+            int i = gy * GRID + gx;
+            if (buckets.get(i) == null) buckets.set(i, new ArrayList<>());
+            buckets.get(i).add(f);
+            minExpiresAt = Math.min(minExpiresAt, f.expiresAt());
+        }
+
+        IndexedFind[][] cells = new IndexedFind[GRID * GRID][];
+        for (int i = 0; i < cells.length; i++) {
+            List<IndexedFind> b = buckets.get(i);
+            if (b != null) cells[i] = b.toArray(new IndexedFind[0]);
+        }
+        return new Tile(now, minExpiresAt, cells);
+    }
+
+    // ===================== 타일 좌표 =====================
+
+    private static double mercX(double lng, int z) {
+        return (lng + 180.0) / 360.0 * (1 << z);
+    }
+
+    private static double mercY(double lat, int z) {
+        double rad = Math.toRadians(lat);
+        return (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * (1 << z);
+    }
+
+    private static int tileX(double lng, int z) {
+        return (int) Math.max(0, Math.min((1 << z) - 1, Math.floor(mercX(lng, z))));
+    }
+
+    private static int tileY(double lat, int z) {
+        return (int) Math.max(0, Math.min((1 << z) - 1, Math.floor(mercY(lat, z))));
+    }
+
+    private static double tileLng(int x, int z) {
+        return x / (double) (1 << z) * 360.0 - 180.0;
+    }
+
+    private static double tileLat(int y, int z) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * y / (1 << z)))));
+    }
+
+    private static double clampLat(double lat) {
+        return Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, lat));
+    }
+
+    private static long key(int z, int x, int y) {
+        return ((long) z << 48) | ((long) x << 24) | y;
+    }
+
+    private record Tile(long builtAt, long minExpiresAt, IndexedFind[][] cells) {
+    }
+}
@@ -40,6 +40,25 @@ public interface FollowingRepository extends JpaRepository<FollowingEntity, Long
             "where f.follower.id = :meId and f.followed.id in :targetIds")
     List<Long> findFollowedIdsByMeIn(@Param("meId") Long meId, @Param("targetIds") List<Long> targetIds);
 
+    // 내가 팔로우하는 유저 id 전체 (fin'd 반경 조회 시 작성자 필터용)
+    @Query("select f.followed.id " +
+            "from FollowingEntity f " +
+            "where f.follower.id = :meId")
+    List<Long> findFollowedIdsByMeId(@Param("meId") Long meId);
+
+    // 나를 팔로우하는 유저 id 전체 (포럼 타임라인 fan-out 시 메모리 버퍼 갱신용)
+    @Query("select f.follower.id " +
+            "from FollowingEntity f " +
+            "where f.followed.id = :meId")
+    List<Long> findFollowerIdsByMeId(@Param("meId") Long meId);
+
+    // 팔로워가 threshold 명을 넘는 유저 id (포럼 타임라인에서 fan-out-on-read 로 돌리는 대상)
+    @Query("select f.followed.id " +
+            "from FollowingEntity f " +
+            "group by f.followed.id " +
+            "having count(f) > :threshold")
+    List<Long> findIdsFollowedByMoreThan(@Param("threshold") long threshold);
+
     // 특정 사용자를 팔로우하는 사람의 수 (팔로워 수)
     long countByFollowed(UserInfoEntity followed);
 
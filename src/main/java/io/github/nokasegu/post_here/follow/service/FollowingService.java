@@ -108,6 +108,9 @@ public class FollowingService {
         // [삭제 단계] 관계가 있으면 삭제, 없으면 조용히 통과 → 멱등 보장
         followingRepository.deleteByFollowerAndFollowed(follower, followed);
         // (확장 포인트) 언팔로우 알림이 필요하면 여기에서 NotificationService를 호출하는 훅을 추가할 수 있습니다.
+
+        // ✅ 커밋 후 fin'd 후보 캐시 등 팔로우 목록 의존 캐시가 무효화되도록 이벤트 발행
+        publisher.publishEvent(new UnfollowedEvent(follower.getId(), followed.getId()));
         return true;
     }
 
@@ -192,4 +195,10 @@ public class FollowingService {
     // =======================
     public static record FollowCreatedEvent(Long followerId, Long followedId, Long followingId) {
     }
+
+    // =======================
+    // ✅ 커밋 후 캐시 무효화용 언팔로우 이벤트 타입
+    // =======================
+    public static record UnfollowedEvent(Long followerId, Long followedId) {
+    }
 }
@@ -148,7 +148,7 @@ public class ForumController {
                 .orElseThrow(() -> new EntityNotFoundException("해당 게시물을 찾을 수 없습니다. id=" + forumId));
 
         // 좋아요/작성자 여부
-        int totalLikes = forumLikeRepository.countByForumId(forumId);
+        int totalLikes = forum.getLikeCount();
         boolean isLiked = false;
         boolean isAuthor = false;
         if (currentUserId != null && forum.getWriter() != null) {
@@ -244,6 +244,27 @@ public class ForumController {
                 .build();
     }
 
+    /**
+     * 포럼 목록 다음 페이지 API (cursor: 이전 응답의 nextCursor, 없으면 첫 페이지)
+     */
+    @ResponseBody
+    @GetMapping("/forum/area/{key}/page")
+    public WrapperDTO<ForumPostPageDto> getForumAreaPage(
+            @PathVariable("key") String locationKey,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long currentUserId = userDetails != null ? userDetails.getUserInfo().getId() : null;
+        ForumPostPageDto page = forumService.getForumAreaPage(locationKey, cursor, size, currentUserId);
+
+        return WrapperDTO.<ForumPostPageDto>builder()
+                .status(Code.OK.getCode())
+                .message(Code.OK.getValue())
+                .data(page)
+                .build();
+    }
+
     // 지역 검색 페이지로 이동
     @GetMapping("/forum/area")
     public String showForumAreaSearchPage() {
@@ -302,14 +323,17 @@ public class ForumController {
     }
 
     /**
-     * Forum 피드 페이지
+     * Forum 피드 페이지 (홈 타임라인, cursor: 이전 페이지의 nextCursor)
      */
     @GetMapping("/forum/feed")
-    public String getForumFeedPage(@AuthenticationPrincipal CustomUserDetails userDetails, Model model) {
+    public String getForumFeedPage(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                   @RequestParam(required = false) String cursor,
+                                   Model model) {
         Long currentUserId = (userDetails != null) ? userDetails.getUserInfo().getId() : null;
 
-        List<ForumPostListResponseDto> posts = forumService.getAllForumPostsForFeed(currentUserId);
-        model.addAttribute("posts", posts);
+        ForumPostPageDto page = forumService.getHomeFeedPage(currentUserId, cursor, ForumService.DEFAULT_FEED_PAGE_SIZE);
+        model.addAttribute("posts", page.getPosts());
+        model.addAttribute("nextCursor", page.getNextCursor());
 
         // 🔹 우측 슬라이드 댓글 모달의 에디터 아바타용 로그인 사용자 주입
         if (userDetails != null && userDetails.getUserInfo() != null) {
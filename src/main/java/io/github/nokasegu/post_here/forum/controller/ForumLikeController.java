@@ -36,7 +36,8 @@ public class ForumLikeController {
         Long likerId = liker.getUserInfo().getId();
 
         // ForumLikeService에 좋아요 토글 로직 위임
-        ForumLikeResponseDto responseDto = forumLikeService.toggleLike(forumId, likerId);
+        ForumLikeResponseDto responseDto = forumLikeService.toggleLike(forumId, likerId,
+                liker.getUserInfo().getProfilePhotoUrl());
 
         return WrapperDTO.<ForumLikeResponseDto>builder()
                 .status(Code.OK.getCode())
@@ -49,6 +49,14 @@ public class ForumEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // 좋아요/댓글 수 (역정규화) - ForumRepository.addLikeCounts(ForumLikeCounter)/addCommentCount 의 원자적 UPDATE 로만 변경
+    // 엔티티 저장 시 오래된 값으로 덮어쓰지 않도록 updatable = false
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private int likeCount;
+
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private int commentCount;
+
     // ForumImageEntity와 1:N 관계 설정
     @OneToMany(mappedBy = "forum", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ForumImageEntity> images = new ArrayList<>();
@@ -0,0 +1,41 @@
+package io.github.nokasegu.post_here.forum.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 홈 타임라인 항목 (받는 사람 owner 의 타임라인에 들어간 게시글 1건)
+ * - 쓰기는 ForumTimelineService 가 게시글 작성 시 팔로워에게 나눠 넣습니다(fan-out-on-write).
+ * - writer_id, created_at 은 forum 에서 복사해 두어 타임라인 범위 조회/언팔로우 정리 시 forum 을 거치지 않습니다.
+ */
+@Entity
+@Table(name = "timeline")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ForumTimelineEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "timeline_pk")
+    private Long id;
+
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+
+    @Column(name = "forum_id", nullable = false)
+    private Long forumId;
+
+
+    @Column(name = "writer_id", nullable = false)
+    private Long writerId;
+
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,11 @@
+package io.github.nokasegu.post_here.forum.dto;
+
+/**
+ * 게시글별 forum.like_count (인터페이스 프로젝션, ForumLikeCounter 재동기화용)
+ */
+public interface ForumLikeCountDto {
+
+    Long getForumId();
+
+    Integer getLikeCount();
+}
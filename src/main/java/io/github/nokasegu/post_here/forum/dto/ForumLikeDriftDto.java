@@ -0,0 +1,13 @@
+package io.github.nokasegu.post_here.forum.dto;
+
+/**
+ * forum.like_count 와 실제 forum_like 개수가 다른 게시글 (네이티브 쿼리 인터페이스 프로젝션, 카운터 보정용)
+ */
+public interface ForumLikeDriftDto {
+
+    Long getForumId();
+
+    Integer getLikeCount();
+
+    Long getActualCount();
+}
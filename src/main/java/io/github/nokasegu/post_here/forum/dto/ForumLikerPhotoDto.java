@@ -0,0 +1,13 @@
+package io.github.nokasegu.post_here.forum.dto;
+
+/**
+ * 게시글별 최근 좋아요 사용자 프로필 사진 (네이티브 쿼리 인터페이스 프로젝션)
+ */
+public interface ForumLikerPhotoDto {
+
+    Long getForumId();
+
+    Long getLikerId();
+
+    String getProfilePhotoUrl();
+}
@@ -55,4 +55,27 @@ public class ForumPostListResponseDto {
         this.recentLikerPhotos = recentLikerPhotos;
         this.author = author;
     }
+
+    private ForumPostListResponseDto(ForumPostListResponseDto shared, boolean isLiked, boolean author) {
+        this.id = shared.id;
+        this.location = shared.location;
+        this.contentsText = shared.contentsText;
+        this.writerNickname = shared.writerNickname;
+        this.writerId = shared.writerId;
+        this.imageUrls = shared.imageUrls;
+        this.writerProfilePhotoUrl = shared.writerProfilePhotoUrl;
+        this.totalComments = shared.totalComments;
+        this.createdAt = shared.createdAt;
+        this.totalLikes = shared.totalLikes;
+        this.isLiked = isLiked;
+        this.recentLikerPhotos = shared.recentLikerPhotos;
+        this.author = author;
+    }
+
+    /**
+     * 사용자와 무관한 카드(지역 목록 캐시)에 요청자 기준 좋아요 여부/작성자 여부를 덧씌운 사본
+     */
+    public ForumPostListResponseDto withViewer(boolean isLiked, boolean author) {
+        return new ForumPostListResponseDto(this, isLiked, author);
+    }
 }
@@ -0,0 +1,17 @@
+package io.github.nokasegu.post_here.forum.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 포럼 게시글 목록 한 페이지 (지역 목록, 홈 타임라인 공용, 최신순)
+ * - nextCursor: 다음 페이지 요청 시 cursor 로 넘길 값 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+public class ForumPostPageDto {
+    private List<ForumPostListResponseDto> posts;
+    private String nextCursor;
+}
@@ -0,0 +1,16 @@
+package io.github.nokasegu.post_here.forum.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타임라인 한 칸 (인터페이스 프로젝션)
+ * - timeline 행과 forum 행(fan-out-on-read) 모두 같은 모양으로 읽습니다.
+ */
+public interface ForumTimelineEntryDto {
+
+    Long getForumId();
+
+    Long getWriterId();
+
+    LocalDateTime getCreatedAt();
+}
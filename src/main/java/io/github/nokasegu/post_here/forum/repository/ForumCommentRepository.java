@@ -21,9 +21,6 @@ public interface ForumCommentRepository extends JpaRepository<ForumCommentEntity
      */
     List<ForumCommentEntity> findAllByForumIdOrderByCreatedAtAsc(Long forumId);
 
-    // 특정 게시글의 댓글 총 개수를 조회하는 메서드 추가
-    int countByForumId(Long forumId);
-
     // ===================== [신규] REQUIRES_NEW 안전용 fetch-join =====================
     // - REQUIRES_NEW 트랜잭션에서 넘겨받은 detached 엔티티의 지연로딩 접근으로 인한
     //   LazyInitializationException을 피하기 위해, 필요한 연관을 fetch-join으로 미리 로딩한다.
@@ -1,9 +1,15 @@
 package io.github.nokasegu.post_here.forum.repository;
 
 import io.github.nokasegu.post_here.forum.domain.ForumLikeEntity;
+import io.github.nokasegu.post_here.forum.dto.ForumLikerPhotoDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,10 +19,42 @@ public interface ForumLikeRepository extends JpaRepository<ForumLikeEntity, Long
     // 특정 사용자가 특정 게시글에 좋아요를 눌렀는지 확인
     Optional<ForumLikeEntity> findByForumIdAndLikerId(Long forumId, Long likerId);
 
-    // 특정 게시글의 좋아요 총 개수 조회
-    int countByForumId(Long forumId);
+    // ===================== 좋아요 토글 (키 기준 멱등 쓰기, uk_like_unique) =====================
 
-    // 특정 게시글에 좋아요를 누른 최근 3명의 사용자 정보(프로필 사진 URL) 조회
-    List<ForumLikeEntity> findTop3ByForumIdOrderByCreatedAtDesc(Long forumId);
-    
+    // 반환: 1 = 좋아요 추가됨, 0 = 이미 있음 또는 게시글 없음(IGNORE 로 FK 오류도 경고 처리)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO forum_like (forum_id, forum_liker_id, created_at) " +
+            "VALUES (:forumId, :likerId, :createdAt)", nativeQuery = true)
+    int insertIgnore(@Param("forumId") Long forumId,
+                     @Param("likerId") Long likerId,
+                     @Param("createdAt") LocalDateTime createdAt);
+
+    // 반환: 1 = 좋아요 취소됨, 0 = 원래 없음
+    @Modifying
+    @Query(value = "DELETE FROM forum_like WHERE forum_id = :forumId AND forum_liker_id = :likerId", nativeQuery = true)
+    int deleteByKey(@Param("forumId") Long forumId, @Param("likerId") Long likerId);
+
+    // ===================== 카드 목록 일괄 조회 (게시글 수와 무관하게 쿼리 수 고정) =====================
+
+    // 여러 게시글 중 사용자가 좋아요를 누른 게시글 id
+    @Query("SELECT l.forum.id FROM ForumLikeEntity l WHERE l.forum.id IN :forumIds AND l.liker.id = :likerId")
+    List<Long> findLikedForumIds(@Param("forumIds") Collection<Long> forumIds, @Param("likerId") Long likerId);
+
+    // 여러 게시글의 최근 좋아요 3명 id/프로필 사진 (게시글별 최신순, ForumRecentLikers 가 버퍼 채울 때 사용)
+    @Query(value = """
+            SELECT t.forumId, t.likerId, t.profilePhotoUrl
+            FROM (
+                SELECT
+                    l.forum_id AS forumId,
+                    l.forum_liker_id AS likerId,
+                    u.profile_photo_url AS profilePhotoUrl,
+                    ROW_NUMBER() OVER (PARTITION BY l.forum_id ORDER BY l.created_at DESC, l.forum_like_pk DESC) AS rn
+                FROM forum_like l
+                JOIN user_info u ON u.user_info_pk = l.forum_liker_id
+                WHERE l.forum_id IN (:forumIds)
+            ) t
+            WHERE t.rn <= 3
+            ORDER BY t.forumId, t.rn
+            """, nativeQuery = true)
+    List<ForumLikerPhotoDto> findRecentLikerPhotos(@Param("forumIds") Collection<Long> forumIds);
 }
@@ -2,22 +2,44 @@ package io.github.nokasegu.post_here.forum.repository;
 
 import io.github.nokasegu.post_here.forum.domain.ForumAreaEntity;
 import io.github.nokasegu.post_here.forum.domain.ForumEntity;
+import io.github.nokasegu.post_here.forum.dto.ForumLikeCountDto;
+import io.github.nokasegu.post_here.forum.dto.ForumLikeDriftDto;
+import io.github.nokasegu.post_here.forum.dto.ForumTimelineEntryDto;
 import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ForumRepository extends JpaRepository<ForumEntity, Long> {
 
-    // ForumAreaEntity 객체를 받아 해당 지역의 포럼 게시물을 모두 조회하는 메서드
-    List<ForumEntity> findByLocation(ForumAreaEntity location);
+    // ===================== 지역 목록 키셋 페이지 (ix_forum_location_created) =====================
+    // 1) (created_at, forum_pk) 내림차순으로 한 페이지의 id 만 고르고 2) 그 id 들만 상세 로딩
+
+    @Query("SELECT f.id FROM ForumEntity f WHERE f.location = :location ORDER BY f.createdAt DESC, f.id DESC")
+    List<Long> findAreaPageIds(@Param("location") ForumAreaEntity location, Pageable pageable);
+
+    @Query("SELECT f.id FROM ForumEntity f WHERE f.location = :location " +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<Long> findAreaPageIdsAfter(@Param("location") ForumAreaEntity location,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    // 카드 목록용: 작성자/지역/이미지를 함께 로딩 (카드 변환 중 지연 로딩 없음, 순서는 호출부에서 맞춤)
+    @Query("SELECT DISTINCT f FROM ForumEntity f JOIN FETCH f.writer JOIN FETCH f.location LEFT JOIN FETCH f.images WHERE f.id IN :ids")
+    List<ForumEntity> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
 
     Page<ForumEntity> findByWriterOrderByIdDesc(UserInfoEntity writer, Pageable pageable);
 
@@ -25,11 +47,78 @@ public interface ForumRepository extends JpaRepository<ForumEntity, Long> {
     @Query("SELECT f FROM ForumEntity f LEFT JOIN FETCH f.images LEFT JOIN FETCH f.location WHERE f.writer = :writer ORDER BY f.id DESC")
     Page<ForumEntity> findByWriterForProfile(@Param("writer") UserInfoEntity writer, Pageable pageable);
 
-    @Query("SELECT f FROM ForumEntity f WHERE f.writer = :writer")
-        // 피드 페이지에서 모든 게시물을 최신순으로 가져오기 위해 필요합니다.
-    List<ForumEntity> findAllByOrderByCreatedAtDesc(@Param("writer") UserInfoEntity writer);
+    // ===================== 홈 타임라인 fan-out-on-read (ix_forum_writer_created) =====================
+    // 팔로워가 많아 타임라인에 나눠 넣지 않는 작성자의 글은 읽을 때 직접 가져와 합칩니다.
+
+    @Query("SELECT f.id AS forumId, f.writer.id AS writerId, f.createdAt AS createdAt " +
+            "FROM ForumEntity f WHERE f.writer.id IN :writerIds " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<ForumTimelineEntryDto> findTimelineEntriesByWriters(@Param("writerIds") Collection<Long> writerIds,
+                                                             Pageable pageable);
+
+    @Query("SELECT f.id AS forumId, f.writer.id AS writerId, f.createdAt AS createdAt " +
+            "FROM ForumEntity f WHERE f.writer.id IN :writerIds " +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<ForumTimelineEntryDto> findTimelineEntriesByWritersAfter(@Param("writerIds") Collection<Long> writerIds,
+                                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                                  @Param("id") Long id,
+                                                                  Pageable pageable);
 
     // 상세 보기(댓글 모달) 기능에 필요합니다.
     @Query("SELECT f FROM ForumEntity f LEFT JOIN FETCH f.writer LEFT JOIN FETCH f.images WHERE f.id = :id")
     Optional<ForumEntity> findByIdWithDetails(@Param("id") Long id);
+
+    // ===================== 좋아요/댓글 수 (역정규화 카운터) =====================
+
+    // 좋아요 수는 ForumLikeCounter 가 모아 둔 증감을 같은 증감끼리 묶어 반영 (트랜잭션 밖에서 호출)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE forum SET like_count = GREATEST(like_count + :delta, 0) WHERE forum_pk IN (:ids)", nativeQuery = true)
+    int addLikeCounts(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE forum SET comment_count = GREATEST(comment_count + :delta, 0) WHERE forum_pk = :id", nativeQuery = true)
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 영속성 컨텍스트를 거치지 않고 현재 값을 읽음 (ForumLikeCounter 의 초기값)
+    @Query("SELECT f.likeCount FROM ForumEntity f WHERE f.id = :id")
+    Optional<Integer> findLikeCount(@Param("id") Long id);
+
+    // 반영 직후 DB 값으로 메모리 값을 다시 맞춤 (다른 인스턴스의 증감, 보정 결과 반영)
+    @Query("SELECT f.id AS forumId, f.likeCount AS likeCount FROM ForumEntity f WHERE f.id IN :ids")
+    List<ForumLikeCountDto> findLikeCounts(@Param("ids") Collection<Long> ids);
+
+    // 카운터 보정(ForumCounterReconciler): afterId 다음 게시글 id 한 묶음
+    @Query("SELECT f.id FROM ForumEntity f WHERE f.id > :afterId ORDER BY f.id ASC")
+    List<Long> findIdChunk(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 댓글 수가 실제 개수와 다른 게시글만 다시 세어 고침 (반환: 고친 행 수, 트랜잭션 밖에서 호출)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE forum f
+               SET f.comment_count = (SELECT COUNT(*) FROM forum_comment c WHERE c.forum_id = f.forum_pk)
+             WHERE f.forum_pk IN (:ids)
+               AND f.comment_count <> (SELECT COUNT(*) FROM forum_comment c WHERE c.forum_id = f.forum_pk)
+            """, nativeQuery = true)
+    int reconcileCommentCounts(@Param("ids") List<Long> ids);
+
+    // 좋아요 수가 실제 개수와 다른 게시글 (고치는 것은 ForumLikeCounter 가 메모리 증감과 맞춰 본 뒤 fixLikeCount 로)
+    @Query(value = """
+            SELECT t.forumId, t.likeCount, t.actualCount
+              FROM (SELECT f.forum_pk AS forumId,
+                           f.like_count AS likeCount,
+                           (SELECT COUNT(*) FROM forum_like l WHERE l.forum_id = f.forum_pk) AS actualCount
+                      FROM forum f
+                     WHERE f.forum_pk IN (:ids)) t
+             WHERE t.likeCount <> t.actualCount
+            """, nativeQuery = true)
+    List<ForumLikeDriftDto> findLikeCountDrift(@Param("ids") Collection<Long> ids);
+
+    // 읽은 값(expected)이 그대로일 때만 고침 (그사이 다른 인스턴스가 반영했으면 다음 실행에서 다시 봄)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE forum SET like_count = :actual WHERE forum_pk = :id AND like_count = :expected", nativeQuery = true)
+    int fixLikeCount(@Param("id") Long id, @Param("expected") int expected, @Param("actual") long actual);
 }
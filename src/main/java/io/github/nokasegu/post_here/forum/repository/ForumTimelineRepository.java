@@ -0,0 +1,103 @@
+package io.github.nokasegu.post_here.forum.repository;
+
+import io.github.nokasegu.post_here.forum.domain.ForumTimelineEntity;
+import io.github.nokasegu.post_here.forum.dto.ForumTimelineEntryDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ForumTimelineRepository extends JpaRepository<ForumTimelineEntity, Long> {
+
+    // ===================== 읽기: (owner_id, created_at DESC, forum_pk DESC) 범위 조회 =====================
+
+    @Query("SELECT t.forumId AS forumId, t.writerId AS writerId, t.createdAt AS createdAt " +
+            "FROM ForumTimelineEntity t WHERE t.ownerId = :ownerId " +
+            "ORDER BY t.createdAt DESC, t.forumId DESC")
+    List<ForumTimelineEntryDto> findPage(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    @Query("SELECT t.forumId AS forumId, t.writerId AS writerId, t.createdAt AS createdAt " +
+            "FROM ForumTimelineEntity t WHERE t.ownerId = :ownerId " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.forumId < :forumId)) " +
+            "ORDER BY t.createdAt DESC, t.forumId DESC")
+    List<ForumTimelineEntryDto> findPageAfter(@Param("ownerId") Long ownerId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("forumId") Long forumId,
+                                              Pageable pageable);
+
+    // 타임라인 행이 하나라도 있는지 (비어 있으면 forum 에서 읽고 재구성)
+    boolean existsByOwnerId(Long ownerId);
+
+    // ===================== 쓰기 (ForumTimelineService 의 백그라운드 스레드에서 호출) =====================
+
+    // 작성자 본인 타임라인에 1건
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline (owner_id, forum_id, writer_id, created_at) " +
+            "VALUES (:ownerId, :forumId, :writerId, :createdAt)", nativeQuery = true)
+    int insertEntry(@Param("ownerId") Long ownerId,
+                    @Param("forumId") Long forumId,
+                    @Param("writerId") Long writerId,
+                    @Param("createdAt") LocalDateTime createdAt);
+
+    // 작성자의 팔로워 전원 타임라인에 한 문장으로 (반환: 들어간 행 수)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline (owner_id, forum_id, writer_id, created_at) " +
+            "SELECT f.follower_id, :forumId, :writerId, :createdAt FROM following f WHERE f.followed_id = :writerId",
+            nativeQuery = true)
+    int fanOutToFollowers(@Param("forumId") Long forumId,
+                          @Param("writerId") Long writerId,
+                          @Param("createdAt") LocalDateTime createdAt);
+
+    // fan-out-on-read 대상에서 빠진 작성자: since 이후 글을 현재 팔로워 전원에게 채워 넣음
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline (owner_id, forum_id, writer_id, created_at) " +
+            "SELECT f.follower_id, p.forum_pk, p.writer_id, p.created_at " +
+            "FROM forum p JOIN following f ON f.followed_id = p.writer_id " +
+            "WHERE p.writer_id = :writerId AND p.created_at >= :since", nativeQuery = true)
+    int fanOutWriterSince(@Param("writerId") Long writerId, @Param("since") LocalDateTime since);
+
+    // 새로 팔로우한 작성자의 최근 글 limit 건을 채워 넣음
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline (owner_id, forum_id, writer_id, created_at) " +
+            "SELECT :ownerId, p.forum_pk, p.writer_id, p.created_at FROM forum p WHERE p.writer_id = :writerId " +
+            "ORDER BY p.created_at DESC, p.forum_pk DESC LIMIT :limit", nativeQuery = true)
+    int backfillWriter(@Param("ownerId") Long ownerId, @Param("writerId") Long writerId, @Param("limit") int limit);
+
+    // 처음부터 다시 만들기: 본인 + 팔로우 중인 작성자의 최근 글 limit 건
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline (owner_id, forum_id, writer_id, created_at) " +
+            "SELECT :ownerId, p.forum_pk, p.writer_id, p.created_at FROM forum p " +
+            "WHERE p.writer_id = :ownerId " +
+            "OR p.writer_id IN (SELECT f.followed_id FROM following f WHERE f.follower_id = :ownerId) " +
+            "ORDER BY p.created_at DESC, p.forum_pk DESC LIMIT :limit", nativeQuery = true)
+    int rebuildOwner(@Param("ownerId") Long ownerId, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ForumTimelineEntity t WHERE t.ownerId = :ownerId")
+    int deleteByOwner(@Param("ownerId") Long ownerId);
+
+    // 언팔로우: 그 작성자의 글만 빼냄
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ForumTimelineEntity t WHERE t.ownerId = :ownerId AND t.writerId = :writerId")
+    int deleteByOwnerAndWriter(@Param("ownerId") Long ownerId, @Param("writerId") Long writerId);
+
+    // 보존 기간이 지난 항목을 limit 건씩 정리 (ix_timeline_created)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM timeline WHERE created_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,245 @@
+package io.github.nokasegu.post_here.forum.service;
+
+import io.github.nokasegu.post_here.forum.dto.ForumPostListResponseDto;
+import io.github.nokasegu.post_here.forum.dto.ForumPostPageDto;
+import io.github.nokasegu.post_here.forum.service.ForumService.ForumChangedEvent;
+import io.github.nokasegu.post_here.forum.service.ForumService.ForumCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ForumAreaPageCache
+ * <p>
+ * 역할
+ * - 조회가 몰리는 지역의 포럼 목록 앞쪽 max-pages 페이지를 지역별로 메모리에 둡니다.
+ * - 보관하는 것은 사용자와 무관한 카드 데이터(본문, 작성자, 이미지, 댓글/좋아요 수, 최근 좋아요 3명)뿐이고,
+ * isLiked / author 는 요청마다 ForumService 에서 덧씌웁니다.
+ * - 첫 페이지와, 캐시된 페이지의 nextCursor 로 이어지는 페이지만 보관합니다. (기본 페이지 크기 요청만)
+ * <p>
+ * 무효화 (커밋 후 이벤트)
+ * - 글 작성/수정/삭제: 해당 지역 전체
+ * - 댓글: 그 글이 들어 있는 지역 전체 (캐시에 없는 글이면 지울 것이 없음)
+ * - 좋아요: ForumLikeCounter 가 forum.like_count 에 반영한 직후 같은 방식으로 무효화
+ * - 읽는 사이 그 지역(또는 읽은 글)이 무효화되면 읽은 페이지는 올리지 않습니다.
+ * 무효화마다 시각(clock)을 하나 올려 지역별/글별로 기록하고, 읽기 시작 시각과 비교합니다. (다른 지역 변화와는 무관)
+ * 캐시에 없는 글의 변화는 그 글 id 만 잠시 기록해 두고, 그 글을 담은 페이지를 올릴 때만 비교합니다.
+ * - 작성자 프로필 변경처럼 이벤트가 없는 변화는 ttl-ms 가 지나면 반영됩니다.
+ * <p>
+ * 지표(Micrometer)
+ * - forum.area.cache (result=hit/miss), forum.area.cache.invalidated, forum.area.cache.size(지역 수)
+ */
+@Component
+@RequiredArgsConstructor
+public class ForumAreaPageCache {
+
+    private static final int RECENT_FORUM_CHANGES = 10000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.forum.area-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${custom.forum.area-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${custom.forum.area-cache.max-pages:3}")
+    private int maxPages;
+
+    @Value("${custom.forum.area-cache.max-areas:500}")
+    private int maxAreas;
+
+    // areaId → 캐시된 페이지들 (access-order LRU, 이 맵의 락으로 내부 상태까지 보호)
+    private final Map<Long, AreaPages> areas = Collections.synchronizedMap(
+            new LinkedHashMap<Long, AreaPages>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, AreaPages> eldest) {
+                    if (size() > maxAreas) {
+                        forget(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            });
+
+    // forumId → areaId (캐시된 페이지에 들어 있는 글만, 댓글/좋아요 이벤트의 지역 찾기용)
+    private final Map<Long, Long> areaOfForum = new ConcurrentHashMap<>();
+
+    // 무효화 시각 (이 맵의 락으로 보호)
+    private long clock = 0;
+    // areaId → 마지막 무효화 시각
+    private final Map<Long, Long> areaChangedAt = new HashMap<>();
+    // 캐시에 없던 글 id → 마지막 변경 시각 (최근 RECENT_FORUM_CHANGES 건, 밀려난 것 중 가장 늦은 시각은 forumChangedFloor)
+    private final Map<Long, Long> forumChangedAt = new LinkedHashMap<>(1024, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            if (size() > RECENT_FORUM_CHANGES) {
+                forumChangedFloor = Math.max(forumChangedFloor, eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+    private long forumChangedFloor = 0;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter invalidatedCounter;
+
+    @PostConstruct
+    public void init() {
+        hitCounter = meterRegistry.counter("forum.area.cache", "result", "hit");
+        missCounter = meterRegistry.counter("forum.area.cache", "result", "miss");
+        invalidatedCounter = meterRegistry.counter("forum.area.cache.invalidated");
+        meterRegistry.gaugeMapSize("forum.area.cache.size", Tags.empty(), areas);
+    }
+
+    /**
+     * 캐시된 페이지 (사용자 무관 카드), 없거나 캐시 대상이 아니면 null
+     */
+    public ForumPostPageDto get(Long areaId, String cursor) {
+        if (!enabled) return null;
+
+        synchronized (areas) {
+            AreaPages pages = areas.get(areaId);
+            if (cursor != null && (pages == null || !pages.indexOfCursor.containsKey(cursor))) {
+                return null; // 캐시 범위 밖 페이지: 지표에 넣지 않음
+            }
+            CachedPage hit = pages == null ? null : pages.pages.get(keyOf(cursor));
+            if (hit != null && System.currentTimeMillis() - hit.cachedAt() < ttlMs) {
+                hitCounter.increment();
+                return hit.page();
+            }
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * 읽기 시작 시각 (put 에 그대로 넘김)
+     */
+    public long generation() {
+        synchronized (areas) {
+            return clock;
+        }
+    }
+
+    public void put(Long areaId, String cursor, ForumPostPageDto page, long seen) {
+        if (!enabled) return;
+
+        synchronized (areas) {
+            if (changedSince(areaId, page, seen)) return;
+
+            AreaPages pages = areas.get(areaId);
+            Integer index = cursor == null ? Integer.valueOf(0)
+                    : (pages == null ? null : pages.indexOfCursor.get(cursor));
+            if (index == null) return;
+
+            if (pages == null) {
+                pages = new AreaPages();
+                areas.put(areaId, pages);
+            }
+            pages.pages.put(keyOf(cursor), new CachedPage(page, System.currentTimeMillis()));
+            if (page.getNextCursor() != null && index + 1 < maxPages) {
+                pages.indexOfCursor.put(page.getNextCursor(), index + 1);
+            }
+            for (ForumPostListResponseDto post : page.getPosts()) {
+                pages.forumIds.add(post.getId());
+                areaOfForum.put(post.getId(), areaId);
+            }
+        }
+    }
+
+    // ===================== 무효화 =====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onForumCreated(ForumCreatedEvent ev) {
+        invalidateArea(ev.areaId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onForumChanged(ForumChangedEvent ev) {
+        if (ev.areaId() != null) {
+            invalidateArea(ev.areaId());
+        } else {
+            invalidateForum(ev.forumId());
+        }
+    }
+
+    /**
+     * 글 id 로 지역을 찾아 무효화 (트랜잭션 밖에서 바뀐 값, 예: ForumLikeCounter 의 좋아요 수 반영 후)
+     */
+    public void invalidateForum(Long forumId) {
+        if (forumId == null) return;
+
+        synchronized (areas) {
+            Long areaId = areaOfForum.get(forumId);
+            if (areaId != null) {
+                invalidateArea(areaId);
+            } else {
+                // 캐시에 없는 글: 지금 이 글을 읽어 올리려는 페이지만 막음 (삽입 순서의 끝으로 옮김)
+                forumChangedAt.remove(forumId);
+                forumChangedAt.put(forumId, ++clock);
+            }
+        }
+    }
+
+    public void invalidateArea(Long areaId) {
+        if (areaId == null) return;
+
+        synchronized (areas) {
+            areaChangedAt.put(areaId, ++clock);
+            AreaPages removed = areas.remove(areaId);
+            if (removed != null) {
+                forget(removed);
+                invalidatedCounter.increment();
+            }
+        }
+    }
+
+    // seen 이후 지역 또는 페이지에 담긴 글이 바뀌었는지 (areas 락 안에서 호출)
+    private boolean changedSince(Long areaId, ForumPostPageDto page, long seen) {
+        if (areaChangedAt.getOrDefault(areaId, 0L) > seen) {
+            return true;
+        }
+        if (forumChangedFloor > seen) {
+            return true; // 기록이 밀려나 알 수 없음
+        }
+        for (ForumPostListResponseDto post : page.getPosts()) {
+            if (forumChangedAt.getOrDefault(post.getId(), 0L) > seen) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void forget(AreaPages pages) {
+        for (Long forumId : pages.forumIds) {
+            areaOfForum.remove(forumId);
+        }
+    }
+
+    private static String keyOf(String cursor) {
+        return cursor == null ? "" : cursor;
+    }
+
+    private static final class AreaPages {
+        // cursor("" = 첫 페이지) → 페이지
+        private final Map<String, CachedPage> pages = new HashMap<>();
+        // 캐시 범위 안의 다음 페이지 cursor → 페이지 번호(0부터)
+        private final Map<String, Integer> indexOfCursor = new HashMap<>();
+        private final Set<Long> forumIds = new HashSet<>();
+    }
+
+    private record CachedPage(ForumPostPageDto page, long cachedAt) {
+    }
+}
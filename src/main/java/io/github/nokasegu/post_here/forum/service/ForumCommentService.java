@@ -7,11 +7,13 @@ import io.github.nokasegu.post_here.forum.dto.ForumCommentRequestDto;
 import io.github.nokasegu.post_here.forum.dto.ForumCommentResponseDto;
 import io.github.nokasegu.post_here.forum.repository.ForumCommentRepository;
 import io.github.nokasegu.post_here.forum.repository.ForumRepository;
+import io.github.nokasegu.post_here.forum.service.ForumService.ForumChangedEvent;
 import io.github.nokasegu.post_here.notification.service.NotificationService;
 import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
 import io.github.nokasegu.post_here.userInfo.repository.UserInfoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -36,6 +38,9 @@ public class ForumCommentService {
     private final NotificationService notificationService;
     // =====================================================================================
 
+    // 커밋 후 지역 목록 캐시(ForumAreaPageCache)가 댓글 수 변경을 반영하도록 이벤트 발행
+    private final ApplicationEventPublisher publisher;
+
     /**
      * 특정 게시글의 모든 댓글을 조회합니다.
      *
@@ -82,6 +87,8 @@ public class ForumCommentService {
 
         // 댓글 저장
         ForumCommentEntity savedComment = forumCommentRepository.save(newComment);
+        forumRepository.addCommentCount(forumId, 1);
+        publisher.publishEvent(new ForumChangedEvent(forumId, null));
 
         // =================== [중요 변경] 알림은 "커밋 이후"에 실행 ===================
         // - 동일 트랜잭션 내부에서 REQUIRES_NEW로 재조회하면 미커밋이라 조회 실패 가능 → afterCommit 사용
@@ -135,5 +142,7 @@ public class ForumCommentService {
 
         // 4. 권한 확인 후 댓글 삭제
         forumCommentRepository.delete(comment);
+        forumRepository.addCommentCount(comment.getForum().getId(), -1);
+        publisher.publishEvent(new ForumChangedEvent(comment.getForum().getId(), null));
     }
 }
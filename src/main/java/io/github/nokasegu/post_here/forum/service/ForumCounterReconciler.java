@@ -0,0 +1,88 @@
+package io.github.nokasegu.post_here.forum.service;
+
+import io.github.nokasegu.post_here.forum.repository.ForumRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ForumCounterReconciler
+ * <p>
+ * 역할
+ * - forum.like_count / comment_count 가 실제 forum_like / forum_comment 개수와 어긋난 경우 바로잡습니다.
+ * (증감 UPDATE 와 삽입/삭제 사이의 실패, 수동 데이터 수정 등)
+ * <p>
+ * 동작
+ * - forum_pk 순으로 chunk-size 건씩 다시 세고, 값이 다른 행만 갱신합니다. (청크마다 짧은 트랜잭션)
+ * - 한 번의 실행에서 max-chunks-per-run 청크까지만 처리하고, 다음 실행은 이어서 진행합니다. 끝에 닿으면 처음부터.
+ * - 시작 전에 ForumLikeCounter 의 대기 중인 증감을 반영합니다.
+ * - 좋아요 수는 ForumLikeCounter.reconcile 로 고칩니다. (메모리 증감과 겹치는 게시글은 건너뜀)
+ * 다른 인스턴스가 아직 반영하지 않은 증감은 알 수 없으므로, 그만큼의 어긋남은 다음 실행에서 다시 바로잡힙니다.
+ * - 지표: forum.counter.repaired (고친 행 수)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ForumCounterReconciler {
+
+    private final ForumRepository forumRepository;
+    private final ForumLikeCounter forumLikeCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.forum.counter-reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${custom.forum.counter-reconcile.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${custom.forum.counter-reconcile.max-chunks-per-run:20}")
+    private int maxChunksPerRun;
+
+    private Counter repairedCounter;
+    private long cursor = 0;
+
+    @PostConstruct
+    public void init() {
+        repairedCounter = meterRegistry.counter("forum.counter.repaired");
+    }
+
+    @Scheduled(fixedDelayString = "${custom.forum.counter-reconcile.interval-ms:600000}",
+            initialDelayString = "${custom.forum.counter-reconcile.initial-delay-ms:300000}")
+    public void reconcile() {
+        if (!enabled) return;
+
+        // 메모리에 모아 둔 좋아요 증감을 먼저 반영해야 다시 센 값과 겹치지 않음
+        forumLikeCounter.flush();
+
+        int repaired = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Long> ids = forumRepository.findIdChunk(cursor, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                cursor = 0;
+                break;
+            }
+
+            repaired += forumRepository.reconcileCommentCounts(ids);
+            repaired += forumLikeCounter.reconcile(ids);
+            cursor = ids.get(ids.size() - 1);
+
+            if (ids.size() < chunkSize) {
+                cursor = 0;
+                break;
+            }
+        }
+
+        if (repaired > 0) {
+            repairedCounter.increment(repaired);
+            log.info("[FORUM-COUNTER] repaired={} cursor={}", repaired, cursor);
+        }
+    }
+}
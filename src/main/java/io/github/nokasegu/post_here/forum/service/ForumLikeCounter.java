@@ -0,0 +1,235 @@
+package io.github.nokasegu.post_here.forum.service;
+
+import io.github.nokasegu.post_here.forum.dto.ForumLikeCountDto;
+import io.github.nokasegu.post_here.forum.dto.ForumLikeDriftDto;
+import io.github.nokasegu.post_here.forum.repository.ForumRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ForumLikeCounter
+ * <p>
+ * 역할
+ * - 게시글별 좋아요 수를 메모리에서 증감하고, forum.like_count 에는 모아서(write-behind) 반영합니다.
+ * → 좋아요가 몰리는 게시글도 클릭마다 같은 forum 행을 잠그지 않음
+ * <p>
+ * 동작
+ * - 게시글마다 total(응답용 현재 값)과 pending(아직 DB 에 반영하지 않은 증감, LongAdder)을 둡니다.
+ * total 은 처음 접근할 때 like_count 로 채웁니다.
+ * - flush-interval-ms 마다 pending 을 비우고, 증감 값이 같은 게시글끼리 UPDATE ... WHERE forum_pk IN (...) 한 문장으로 반영합니다.
+ * 실패하면 증감을 되돌려 다음 주기에 다시 시도합니다.
+ * - 반영한 게시글은 total 을 "DB 값 + 남은 pending" 으로 다시 맞춥니다.
+ * → 좋아요가 계속 들어와 메모리에서 빠지지 않는 글도 다른 인스턴스의 증감과 보정 결과를 따라감
+ * - 반영 후 지역 목록 캐시(ForumAreaPageCache)에서 해당 글을 무효화합니다.
+ * - idle-ms 동안 변화가 없고 반영할 것이 없는 게시글은 메모리에서 뺍니다. (다음 접근 시 DB 값으로 다시 채움)
+ * - 종료 시 남은 증감을 반영합니다. 비정상 종료로 잃은 증감은 ForumCounterReconciler 가 바로잡습니다.
+ * <p>
+ * 보정(reconcile)과의 경합
+ * - 좋아요 토글은 커밋 직전 begin, 커밋 후 add, 끝나면 end 를 호출합니다. (커밋과 add 사이 구간을 inFlight 로 표시)
+ * - 보정은 flush 와 같은 락 안에서 다시 세기 전/후로 게시글 상태(version, inFlight, pending)를 보고,
+ * 그사이 토글이 끼어든 게시글은 고치지 않습니다. → 다시 센 개수에 이미 들어간 좋아요를 pending 으로 한 번 더 더하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ForumLikeCounter {
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final ForumRepository forumRepository;
+    private final ForumAreaPageCache forumAreaPageCache;
+
+    @Value("${custom.forum.like-counter.idle-ms:60000}")
+    private long idleMs;
+
+    // forumId → 메모리 카운터
+    private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 좋아요 수 (아직 DB 에 반영되지 않은 증감 포함)
+     */
+    public int get(Long forumId) {
+        return cell(forumId).total.get();
+    }
+
+    /**
+     * 좋아요 수 증감 후 현재 값
+     */
+    public int add(Long forumId, int delta) {
+        Cell cell = cell(forumId);
+        cell.touchedAt = System.currentTimeMillis();
+        cell.pending.add(delta);
+        cell.version.incrementAndGet();
+        return cell.total.updateAndGet(v -> Math.max(v + delta, 0));
+    }
+
+    /**
+     * 좋아요 토글 커밋 직전 (end 까지 이 게시글은 보정 대상에서 빠짐)
+     */
+    public void begin(Long forumId) {
+        cell(forumId).inFlight.incrementAndGet();
+    }
+
+    /**
+     * 좋아요 토글 종료 (커밋/롤백 모두, begin 을 호출한 경우에만)
+     */
+    public void end(Long forumId) {
+        Cell cell = cells.get(forumId);
+        if (cell != null) {
+            cell.inFlight.decrementAndGet();
+        }
+    }
+
+    private Cell cell(Long forumId) {
+        Cell cell = cells.get(forumId);
+        if (cell != null) {
+            return cell;
+        }
+        // DB 조회는 맵 잠금 밖에서 (동시에 채워지면 먼저 들어간 쪽을 사용)
+        int base = forumRepository.findLikeCount(forumId).orElse(0);
+        return cells.computeIfAbsent(forumId, id -> new Cell(base));
+    }
+
+    @Scheduled(fixedDelayString = "${custom.forum.like-counter.flush-interval-ms:300}")
+    public synchronized void flush() {
+        Map<Integer, List<Long>> byDelta = new HashMap<>();
+        for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+            int delta = (int) entry.getValue().pending.sumThenReset();
+            if (delta != 0) {
+                byDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        int flushed = 0;
+        for (Map.Entry<Integer, List<Long>> group : byDelta.entrySet()) {
+            int delta = group.getKey();
+            List<Long> ids = group.getValue();
+            for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size()));
+                try {
+                    forumRepository.addLikeCounts(chunk, delta);
+                    flushed += chunk.size();
+                    chunk.forEach(forumAreaPageCache::invalidateForum);
+                } catch (Exception e) {
+                    // 되돌려 두고 다음 주기에 다시 반영
+                    for (Long id : chunk) {
+                        Cell cell = cells.get(id);
+                        if (cell != null) cell.pending.add(delta);
+                    }
+                    log.warn("[FORUM-LIKE-COUNTER] flush failed size={} delta={} err={}", chunk.size(), delta, e.toString());
+                    continue;
+                }
+                try {
+                    reseed(chunk);
+                } catch (Exception e) {
+                    log.warn("[FORUM-LIKE-COUNTER] reseed failed size={} err={}", chunk.size(), e.toString());
+                }
+            }
+        }
+
+        evictIdle();
+        if (flushed > 0) {
+            log.debug("[FORUM-LIKE-COUNTER] flushed {} posts", flushed);
+        }
+    }
+
+    /**
+     * total 을 DB 값 + 아직 반영하지 않은 증감으로 다시 맞춤
+     */
+    void reseed(Collection<Long> forumIds) {
+        for (ForumLikeCountDto row : forumRepository.findLikeCounts(forumIds)) {
+            Cell cell = cells.get(row.getForumId());
+            if (cell != null) {
+                cell.total.set(Math.max(row.getLikeCount() + (int) cell.pending.sum(), 0));
+            }
+        }
+    }
+
+    /**
+     * like_count 가 실제 개수와 다른 게시글을 고칩니다. (ForumCounterReconciler, 반환: 고친 행 수)
+     * - flush 와 같은 락 안에서 수행하므로 세는 동안 반영이 끼어들지 않습니다.
+     * - 세기 전/후 상태가 다르거나, 반영하지 않은 증감/진행 중인 토글이 있는 게시글은 건너뜁니다.
+     */
+    public synchronized int reconcile(List<Long> forumIds) {
+        Map<Long, Long> before = new HashMap<>();
+        for (Long id : forumIds) {
+            Long version = quietVersion(id);
+            if (version != null) before.put(id, version);
+        }
+        if (before.isEmpty()) {
+            return 0;
+        }
+
+        int repaired = 0;
+        for (ForumLikeDriftDto row : forumRepository.findLikeCountDrift(before.keySet())) {
+            Long id = row.getForumId();
+            if (!before.get(id).equals(quietVersion(id))) {
+                continue; // 세는 사이 토글이 끼어듦: 다음 실행에서 다시 봄
+            }
+            if (forumRepository.fixLikeCount(id, row.getLikeCount(), row.getActualCount()) > 0) {
+                repaired++;
+                Cell cell = cells.get(id);
+                if (cell != null) cell.total.set(row.getActualCount().intValue());
+                forumAreaPageCache.invalidateForum(id);
+            }
+        }
+        return repaired;
+    }
+
+    // 보정해도 되는 상태면 version (칸이 없으면 -1), 반영 대기/진행 중인 토글이 있으면 null
+    private Long quietVersion(Long forumId) {
+        Cell cell = cells.get(forumId);
+        if (cell == null) {
+            return -1L;
+        }
+        if (cell.inFlight.get() > 0 || cell.pending.sum() != 0) {
+            return null;
+        }
+        return cell.version.get();
+    }
+
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Map.Entry<Long, Cell>> it = cells.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Cell> entry = it.next();
+            Cell cell = entry.getValue();
+            if (now - cell.touchedAt > idleMs && cell.pending.sum() == 0 && cell.inFlight.get() == 0) {
+                it.remove();
+                // 빼는 사이 들어온 증감은 새 칸으로 옮겨 다음 주기에 반영
+                long late = cell.pending.sumThenReset();
+                if (late != 0) {
+                    cell(entry.getKey()).pending.add(late);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class Cell {
+        private final AtomicInteger total;
+        private final LongAdder pending = new LongAdder();
+        // add 할 때마다 증가 (보정 전후 비교용)
+        private final AtomicLong version = new AtomicLong();
+        // 커밋 직전~종료 사이의 토글 수
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile long touchedAt = System.currentTimeMillis();
+
+        Cell(int base) {
+            this.total = new AtomicInteger(base);
+        }
+    }
+}
@@ -1,21 +1,17 @@
 package io.github.nokasegu.post_here.forum.service;
 
-import io.github.nokasegu.post_here.forum.domain.ForumEntity;
-import io.github.nokasegu.post_here.forum.domain.ForumLikeEntity;
 import io.github.nokasegu.post_here.forum.dto.ForumLikeResponseDto;
 import io.github.nokasegu.post_here.forum.repository.ForumLikeRepository;
 import io.github.nokasegu.post_here.forum.repository.ForumRepository;
-import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
-import io.github.nokasegu.post_here.userInfo.repository.UserInfoRepository;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,52 +22,54 @@ public class ForumLikeService {
     private final ForumLikeRepository forumLikeRepository;
     // 포럼 게시글 정보 접근을 위한 리포지토리
     private final ForumRepository forumRepository;
-    // 사용자 정보 접근을 위한 리포지토리
-    private final UserInfoRepository userInfoRepository;
+    // 좋아요 수 메모리 카운터 (forum.like_count 에는 모아서 반영, 반영 후 지역 목록 캐시 무효화)
+    private final ForumLikeCounter forumLikeCounter;
+    // 게시글별 최근 좋아요 3명 메모리 버퍼
+    private final ForumRecentLikers forumRecentLikers;
 
     /**
      * 포럼 게시글의 좋아요 상태를 토글합니다.
      * 이미 좋아요를 눌렀다면 좋아요를 취소하고, 아니면 좋아요를 추가합니다.
+     * - forum_like 는 (forum_id, forum_liker_id) 키로 지우거나 INSERT IGNORE 로 넣습니다. (게시글/사용자를 따로 읽지 않음)
+     * - 좋아요 수는 ForumLikeCounter 의 메모리 값으로 응답하고, 증감은 커밋 후 카운터에 넣어 forum.like_count 에 모아서 반영됩니다.
+     * - 최근 좋아요 3명은 ForumRecentLikers 버퍼를 바로 고쳐 응답하고,
+     * 커밋 후 한 번 더 반영해 그사이 DB 에서 읽어 온 버퍼도 바로잡습니다.
      *
-     * @param forumId 좋아요를 누를 게시글의 ID
-     * @param likerId 좋아요를 누른 사용자의 ID
+     * @param forumId              좋아요를 누를 게시글의 ID
+     * @param likerId              좋아요를 누른 사용자의 ID
+     * @param likerProfilePhotoUrl 좋아요를 누른 사용자의 프로필 사진 (최근 좋아요 버퍼용)
      * @return 변경된 좋아요 상태를 담은 DTO
      */
-    public ForumLikeResponseDto toggleLike(Long forumId, Long likerId) {
-        // 게시글 존재 여부 확인
-        ForumEntity forum = forumRepository.findById(forumId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 게시글을 찾을 수 없습니다."));
-
-        // 사용자 존재 여부 확인
-        UserInfoEntity liker = userInfoRepository.findById(likerId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
-
-        // 기존에 좋아요를 눌렀는지 확인
-        Optional<ForumLikeEntity> existingLike = forumLikeRepository.findByForumIdAndLikerId(forumId, likerId);
-
-        boolean isLiked;
-        if (existingLike.isPresent()) {
+    public ForumLikeResponseDto toggleLike(Long forumId, Long likerId, String likerProfilePhotoUrl) {
+        int delta;
+        if (forumLikeRepository.deleteByKey(forumId, likerId) > 0) {
             // 좋아요가 존재하면 삭제
-            forumLikeRepository.delete(existingLike.get());
-            isLiked = false;
+            delta = -1;
+        } else if (forumLikeRepository.insertIgnore(forumId, likerId, LocalDateTime.now()) > 0) {
+            // 좋아요가 없으면 새로 추가
+            delta = 1;
         } else {
-            // 좋아요가 없으면 새로 생성하여 저장
-            ForumLikeEntity newLike = ForumLikeEntity.builder()
-                    .forum(forum)
-                    .liker(liker)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-            forumLikeRepository.save(newLike);
-            isLiked = true;
+            // 넣지 못한 경우: 게시글이 없거나, 같은 요청이 동시에 먼저 넣음
+            if (!forumRepository.existsById(forumId)) {
+                throw new EntityNotFoundException("해당 게시글을 찾을 수 없습니다.");
+            }
+            delta = 0;
         }
 
-        // DB에 다시 접근하지 않고, 변경된 상태를 기반으로 DTO를 만듭니다.
-        // 좋아요 총 개수는 DB에서 다시 조회 (가장 정확한 최신 상태)
-        int totalLikes = forumLikeRepository.countByForumId(forumId);
-        List<String> recentLikerPhotos = forumLikeRepository.findTop3ByForumIdOrderByCreatedAtDesc(forumId)
-                .stream()
-                .map(like -> like.getLiker().getProfilePhotoUrl())
-                .collect(Collectors.toList());
+        boolean isLiked = delta >= 0;
+        // 응답은 커밋될 값을 미리 계산해 돌려주고, 카운터에는 커밋된 뒤에만 반영 (롤백된 토글이 반영되지 않도록)
+        int totalLikes = Math.max(forumLikeCounter.get(forumId) + delta, 0);
+
+        if (delta != 0) {
+            trackInCounter(forumId, delta);
+
+            Runnable applyLikers = isLiked
+                    ? () -> forumRecentLikers.onLiked(forumId, likerId, likerProfilePhotoUrl)
+                    : () -> forumRecentLikers.onUnliked(forumId, likerId);
+            applyLikers.run();
+            afterCommit(applyLikers);
+        }
+        List<String> recentLikerPhotos = forumRecentLikers.photosOf(forumId);
 
         return new ForumLikeResponseDto(totalLikes, recentLikerPhotos, isLiked);
     }
@@ -85,17 +83,55 @@ public class ForumLikeService {
      * @return 좋아요 상태를 담은 DTO
      */
     public ForumLikeResponseDto getLikeStatus(Long forumId) {
-        // 특정 게시글의 좋아요 총 개수를 조회
-        int totalLikes = forumLikeRepository.countByForumId(forumId);
+        // 특정 게시글의 좋아요 총 개수 (아직 DB 에 반영되지 않은 증감 포함)
+        int totalLikes = forumLikeCounter.get(forumId);
 
-        // 최근 좋아요를 누른 3명의 프로필 사진 URL 목록을 조회
-        List<String> recentLikerPhotos = forumLikeRepository.findTop3ByForumIdOrderByCreatedAtDesc(forumId)
-                .stream()
-                .map(like -> like.getLiker().getProfilePhotoUrl())
-                .collect(Collectors.toList());
+        // 최근 좋아요를 누른 3명의 프로필 사진 URL 목록 (메모리 버퍼, 없으면 DB 에서 채움)
+        List<String> recentLikerPhotos = forumRecentLikers.photosOf(forumId);
 
         // 좋아요 여부는 이 메서드의 역할이 아니므로 false로 고정하여 반환
         return new ForumLikeResponseDto(totalLikes, recentLikerPhotos, false);
     }
 
+    /**
+     * 좋아요 수 증감을 커밋 후 카운터에 넣고, 커밋 직전부터 끝날 때까지 보정 대상에서 빠지도록 표시합니다.
+     */
+    private void trackInCounter(Long forumId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            forumLikeCounter.add(forumId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean begun;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                forumLikeCounter.begin(forumId);
+                begun = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                forumLikeCounter.add(forumId, delta);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (begun) {
+                    forumLikeCounter.end(forumId);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        }
+    }
 }
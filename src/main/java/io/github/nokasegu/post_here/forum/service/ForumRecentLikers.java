@@ -0,0 +1,177 @@
+package io.github.nokasegu.post_here.forum.service;
+
+import io.github.nokasegu.post_here.forum.dto.ForumLikerPhotoDto;
+import io.github.nokasegu.post_here.forum.repository.ForumLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * ForumRecentLikers
+ * <p>
+ * 역할
+ * - 게시글별 최근 좋아요 3명(사용자 id, 프로필 사진)을 메모리에 두고 카드 목록/좋아요 응답의 아바타 줄에 씁니다.
+ * → 목록과 좋아요 토글 모두 아바타 줄을 위한 추가 쿼리가 없음
+ * <p>
+ * 동작
+ * - 좋아요: 버퍼 맨 앞에 넣고 3명까지만 유지 (이미 있던 사용자는 앞으로 옮김)
+ * - 좋아요 취소: 버퍼에 있던 사용자면 4번째 사람을 알 수 없으므로 버퍼를 버림 → 다음 조회 때 다시 읽음
+ * - 버퍼가 없는 게시글은 조회 시 묶어서 한 번에 DB 에서 읽어 채웁니다. (ix_like_forum_created)
+ * - 게시글 수는 access-order LRU(max-posts)로 제한하고, 프로필 사진 변경은 ttl-ms 가 지나 다시 읽을 때 반영됩니다.
+ * - 읽는 사이 그 게시글에 좋아요/취소가 끼어들면 그 게시글의 읽은 값만 올리지 않습니다.
+ * (좋아요/취소마다 시각(clock)을 올려 게시글별로 기록하고 읽기 시작 시각과 비교, 다른 게시글의 좋아요와는 무관)
+ */
+@Component
+@RequiredArgsConstructor
+public class ForumRecentLikers {
+
+    private static final int SIZE = 3;
+    private static final int RECENT_CHANGES = 10000;
+
+    private final ForumLikeRepository forumLikeRepository;
+
+    @Value("${custom.forum.recent-likers.max-posts:50000}")
+    private int maxPosts;
+
+    @Value("${custom.forum.recent-likers.ttl-ms:600000}")
+    private long ttlMs;
+
+    // forumId → 최근 좋아요 (access-order LRU)
+    private final Map<Long, Likers> buffers = Collections.synchronizedMap(
+            new LinkedHashMap<Long, Likers>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Likers> eldest) {
+                    return size() > maxPosts;
+                }
+            });
+
+    // 좋아요/취소 시각 (buffers 락으로 보호)
+    private long clock = 0;
+    // forumId → 마지막 좋아요/취소 시각 (최근 RECENT_CHANGES 건, 밀려난 것 중 가장 늦은 시각은 changedFloor)
+    private final Map<Long, Long> changedAt = new LinkedHashMap<>(1024, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            if (size() > RECENT_CHANGES) {
+                changedFloor = Math.max(changedFloor, eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+    private long changedFloor = 0;
+
+    /**
+     * 게시글 한 건의 최근 좋아요 프로필 사진 (최신순, 최대 3개)
+     */
+    public List<String> photosOf(Long forumId) {
+        return photosOf(List.of(forumId)).getOrDefault(forumId, List.of());
+    }
+
+    /**
+     * 여러 게시글의 최근 좋아요 프로필 사진 (버퍼에 없는 게시글만 한 번에 DB 조회)
+     */
+    public Map<Long, List<String>> photosOf(Collection<Long> forumIds) {
+        Map<Long, List<String>> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long seen;
+        long now = System.currentTimeMillis();
+
+        synchronized (buffers) {
+            seen = clock;
+            for (Long forumId : forumIds) {
+                Likers likers = buffers.get(forumId);
+                if (likers != null && now - likers.loadedAt() < ttlMs) {
+                    result.put(forumId, likers.photos());
+                } else {
+                    misses.add(forumId);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, List<Liker>> loaded = new HashMap<>();
+        for (Long forumId : misses) {
+            loaded.put(forumId, new ArrayList<>(SIZE));
+        }
+        for (ForumLikerPhotoDto row : forumLikeRepository.findRecentLikerPhotos(misses)) {
+            loaded.get(row.getForumId()).add(new Liker(row.getLikerId(), row.getProfilePhotoUrl()));
+        }
+
+        synchronized (buffers) {
+            for (Map.Entry<Long, List<Liker>> entry : loaded.entrySet()) {
+                Likers likers = new Likers(List.copyOf(entry.getValue()), now);
+                if (!changedSince(entry.getKey(), seen)) {
+                    buffers.put(entry.getKey(), likers);
+                }
+                result.put(entry.getKey(), likers.photos());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 좋아요 추가 반영 (버퍼가 없는 게시글은 다음 조회 때 DB 에서 채움)
+     */
+    public void onLiked(Long forumId, Long likerId, String profilePhotoUrl) {
+        synchronized (buffers) {
+            markChanged(forumId);
+            Likers likers = buffers.get(forumId);
+            if (likers == null) return;
+
+            List<Liker> next = new ArrayList<>(SIZE);
+            next.add(new Liker(likerId, profilePhotoUrl));
+            for (Liker liker : likers.likers()) {
+                if (next.size() >= SIZE) break;
+                if (!liker.id().equals(likerId)) next.add(liker);
+            }
+            buffers.put(forumId, new Likers(List.copyOf(next), likers.loadedAt()));
+        }
+    }
+
+    /**
+     * 좋아요 취소 반영
+     */
+    public void onUnliked(Long forumId, Long likerId) {
+        synchronized (buffers) {
+            markChanged(forumId);
+            Likers likers = buffers.get(forumId);
+            if (likers == null) return;
+
+            for (Liker liker : likers.likers()) {
+                if (liker.id().equals(likerId)) {
+                    buffers.remove(forumId);
+                    return;
+                }
+            }
+        }
+    }
+
+    // 삽입 순서의 끝으로 옮겨, 밀려나는 항목이 가장 오래된 변경이 되도록
+    private void markChanged(Long forumId) {
+        changedAt.remove(forumId);
+        changedAt.put(forumId, ++clock);
+    }
+
+    // seen 이후 이 게시글에 좋아요/취소가 있었는지 (buffers 락 안에서 호출)
+    private boolean changedSince(Long forumId, long seen) {
+        return changedFloor > seen || changedAt.getOrDefault(forumId, 0L) > seen;
+    }
+
+    private record Liker(Long id, String profilePhotoUrl) {
+    }
+
+    private record Likers(List<Liker> likers, long loadedAt) {
+
+        List<String> photos() {
+            List<String> photos = new ArrayList<>(likers.size());
+            for (Liker liker : likers) {
+                photos.add(liker.profilePhotoUrl());
+            }
+            return photos;
+        }
+    }
+}
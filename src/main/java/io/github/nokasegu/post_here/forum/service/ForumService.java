@@ -14,14 +14,23 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,17 +45,33 @@ public class ForumService {
     private final ForumImageService forumImageService;
     private final ForumCommentRepository forumCommentRepository;
     private final ForumLikeRepository forumLikeRepository;
+    private final ForumTimelineService forumTimelineService;
+    private final ForumAreaPageCache forumAreaPageCache;
+    private final ForumRecentLikers forumRecentLikers;
+
+    // 커밋 후 홈 타임라인 fan-out, 지역 목록 캐시 무효화가 진행되도록 이벤트만 발행
+    private final ApplicationEventPublisher publisher;
+
+    // 지역 목록 기본/최대 페이지 크기
+    public static final int DEFAULT_AREA_PAGE_SIZE = 20;
+    private static final int MAX_AREA_PAGE_SIZE = 50;
+
+    // 홈 타임라인 기본/최대 페이지 크기
+    public static final int DEFAULT_FEED_PAGE_SIZE = 20;
+    private static final int MAX_FEED_PAGE_SIZE = 50;
 
     public ForumCreateResponseDto createForum(ForumCreateRequestDto requestDto) throws IOException {
         UserInfoEntity writer = userInfoRepository.findByEmail(requestDto.getUserEmail())
                 .orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
         ForumAreaEntity area = forumAreaRepository.findById(requestDto.getLocation())
                 .orElseThrow(() -> new EntityNotFoundException("유효하지 않은 지역입니다."));
+        // 타임라인 커서가 DB 값(초 단위 TIMESTAMP)과 같은 값을 쓰도록 초 미만은 버림
+        LocalDateTime now = LocalDateTime.now().withNano(0);
         ForumEntity forum = ForumEntity.builder()
                 .writer(writer)
                 .location(area)
                 .contentsText(requestDto.getContent())
-                .createdAt(LocalDateTime.now())
+                .createdAt(now)
                 .build();
         ForumEntity savedForum = forumRepository.save(forum);
 
@@ -56,6 +81,8 @@ public class ForumService {
                 forumImageService.saveImage(imageUrl, savedForum);
             }
         }
+
+        publisher.publishEvent(new ForumCreatedEvent(savedForum.getId(), writer.getId(), area.getId(), now));
         return new ForumCreateResponseDto(savedForum.getId());
     }
 
@@ -74,6 +101,7 @@ public class ForumService {
             forumImageService.deleteImagesByIds(requestDto.getDeletedImageIds(), userId);
         }
         forumRepository.save(forum);
+        publisher.publishEvent(new ForumChangedEvent(forumId, forum.getLocation().getId()));
     }
 
     /**
@@ -86,6 +114,7 @@ public class ForumService {
         ForumEntity forum = getForumEntityAndCheckPermission(forumId, userId);
         forumImageService.deleteImages(forum);
         forumRepository.delete(forum);
+        publisher.publishEvent(new ForumChangedEvent(forumId, forum.getLocation().getId()));
     }
 
     /**
@@ -170,63 +199,127 @@ public class ForumService {
     }
 
     /**
-     * 지정된 지역에 해당하는 포럼 게시물 목록을 조회합니다.
+     * 지정된 지역에 해당하는 포럼 게시물 목록(최신순 첫 페이지)을 조회합니다.
      * 댓글 및 좋아요 정보를 포함합니다.
      *
      * @param locationKey   지역 주소 또는 ID (String 형태)
      * @param currentUserId 현재 로그인한 사용자 ID
-     * @return 해당 지역의 포럼 게시물 목록 DTO 리스트
+     * @return 해당 지역의 포럼 게시물 목록 DTO 리스트 (최대 DEFAULT_AREA_PAGE_SIZE 개)
      */
     public List<ForumPostListResponseDto> getForumPostsByLocation(String locationKey, Long currentUserId) {
+        return getForumAreaPage(locationKey, null, DEFAULT_AREA_PAGE_SIZE, currentUserId).getPosts();
+    }
 
-        // final 변수에 currentUserId 값을 담아 고정
-        final Long finalCurrentUserId = currentUserId;
+    /**
+     * 지역 포럼 목록 (키셋 페이지네이션, created_at DESC, forum_pk DESC)
+     * - cursor == null: 첫 페이지, 이후에는 이전 응답의 nextCursor
+     * - 기본 크기 페이지는 사용자와 무관한 카드를 ForumAreaPageCache 에 두고, isLiked/author 만 요청마다 덧씌웁니다.
+     */
+    @Transactional(readOnly = true)
+    public ForumPostPageDto getForumAreaPage(String locationKey, String cursor, int size, Long currentUserId) {
+        ForumAreaEntity area = resolveArea(locationKey);
+        int pageSize = Math.max(1, Math.min(size, MAX_AREA_PAGE_SIZE));
+        if (cursor != null && cursor.isBlank()) {
+            cursor = null;
+        }
+        boolean cacheable = pageSize == DEFAULT_AREA_PAGE_SIZE;
+
+        ForumPostPageDto shared = cacheable ? forumAreaPageCache.get(area.getId(), cursor) : null;
+        if (shared == null) {
+            long seen = forumAreaPageCache.generation();
+            shared = loadAreaPage(area, cursor, pageSize);
+            if (cacheable) {
+                forumAreaPageCache.put(area.getId(), cursor, shared, seen);
+            }
+        }
+        return forViewer(shared, currentUserId);
+    }
+
+    // 사용자와 무관한 카드 한 페이지 (size + 1 개를 읽어 다음 페이지 존재 여부를 판단)
+    private ForumPostPageDto loadAreaPage(ForumAreaEntity area, String cursor, int pageSize) {
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Long> ids;
+        if (cursor == null) {
+            ids = forumRepository.findAreaPageIds(area, limit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            ids = forumRepository.findAreaPageIdsAfter(area, after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        List<ForumEntity> page = loadInOrder(pageIds);
+
+        ForumEntity last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return ForumPostPageDto.builder()
+                .posts(toPostListDtos(page, null))
+                .nextCursor(hasNext && last != null ? PageCursor.encode(last.getCreatedAt(), last.getId()) : null)
+                .build();
+    }
 
-        ForumAreaEntity area;
+    // 요청자 기준 isLiked/author 덧씌우기 (내가 누른 좋아요는 페이지 id 묶음으로 1회 조회)
+    private ForumPostPageDto forViewer(ForumPostPageDto shared, Long currentUserId) {
+        if (currentUserId == null || shared.getPosts().isEmpty()) {
+            return shared;
+        }
+        List<Long> forumIds = shared.getPosts().stream()
+                .map(ForumPostListResponseDto::getId)
+                .collect(Collectors.toList());
+        Set<Long> likedIds = new HashSet<>(forumLikeRepository.findLikedForumIds(forumIds, currentUserId));
+
+        return ForumPostPageDto.builder()
+                .posts(shared.getPosts().stream()
+                        .map(post -> post.withViewer(likedIds.contains(post.getId()),
+                                currentUserId.equals(post.getWriterId())))
+                        .collect(Collectors.toList()))
+                .nextCursor(shared.getNextCursor())
+                .build();
+    }
+
+    private ForumAreaEntity resolveArea(String locationKey) {
         try {
             Long locationId = Long.parseLong(locationKey);
-            area = forumAreaRepository.findById(locationId)
+            return forumAreaRepository.findById(locationId)
                     .orElseThrow(() -> new EntityNotFoundException("유효하지 않은 지역 ID입니다."));
         } catch (NumberFormatException e) {
-            area = forumAreaRepository.findByAddress(locationKey)
+            return forumAreaRepository.findByAddress(locationKey)
                     .orElseThrow(() -> new EntityNotFoundException("유효하지 않은 지역 주소입니다."));
         }
+    }
 
-        List<ForumEntity> forumEntities = forumRepository.findByLocation(area);
-
-        // Entity를 DTO로 변환하면서 댓글 정보를 추가합니다.
-        return forumEntities.stream()
-                .map(forumEntity -> {
-                    int totalComments = forumCommentRepository.countByForumId(forumEntity.getId());
-                    int totalLikes = forumLikeRepository.countByForumId(forumEntity.getId());
-
-                    LocalDateTime createdAt = forumEntity.getCreatedAt();
-
-                    boolean isLiked = false; // 기본값
-                    List<String> recentLikerPhotos = forumLikeRepository.findTop3ByForumIdOrderByCreatedAtDesc(forumEntity.getId())
-                            .stream()
-                            .map(like -> like.getLiker().getProfilePhotoUrl())
-                            .collect(Collectors.toList());
+    // id 목록 순서대로 상세 로딩
+    private List<ForumEntity> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ForumEntity> byId = forumRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ForumEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-                    boolean isAuthor = false;
+    /**
+     * 목록 커서(지역 목록, 홈 타임라인): 마지막 게시글의 (created_at, forum_pk) 를 URL-safe Base64 로 감싼 값
+     */
+    private record PageCursor(LocalDateTime createdAt, Long id) {
 
-                    // 현재 사용자가 로그인한 상태일 경우에만 좋아요 여부를 확인
-                    if (finalCurrentUserId != null) {
-                        isLiked = forumLikeRepository.findByForumIdAndLikerId(forumEntity.getId(), finalCurrentUserId).isPresent();
-                        isAuthor = forumEntity.getWriter().getId().equals(finalCurrentUserId);
-                    }
+        static String encode(LocalDateTime createdAt, Long id) {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
 
-                    return new ForumPostListResponseDto(
-                            forumEntity,
-                            totalComments,
-                            createdAt,
-                            totalLikes,
-                            isLiked,
-                            recentLikerPhotos,
-                            isAuthor
-                    );
-                })
-                .collect(Collectors.toList());
+        static PageCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.indexOf('|');
+                return new PageCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+            }
+        }
     }
 
     /**
@@ -265,41 +358,80 @@ public class ForumService {
         });
     }
 
+    /**
+     * 홈 타임라인 (본인 + 팔로우한 사용자의 게시글, created_at DESC, forum_pk DESC)
+     * - 게시글 id 목록은 ForumTimelineService 에서 범위 조회로 받고, 그 id 들만 상세 로딩합니다.
+     * - cursor == null: 첫 페이지, 이후에는 이전 응답의 nextCursor
+     */
     @Transactional(readOnly = true)
-    public List<ForumPostListResponseDto> getAllForumPostsForFeed(Long currentUserId) {
-
-        UserInfoEntity user = userInfoRepository.findById(currentUserId)
-                .orElseThrow(() -> new EntityNotFoundException("USER NOT FOUND"));
+    public ForumPostPageDto getHomeFeedPage(Long currentUserId, String cursor, int size) {
+        if (currentUserId == null) {
+            return ForumPostPageDto.builder().posts(List.of()).build();
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+
+        List<ForumTimelineService.Entry> entries;
+        if (cursor == null || cursor.isBlank()) {
+            entries = forumTimelineService.read(currentUserId, null, null, pageSize + 1);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            entries = forumTimelineService.read(currentUserId, after.createdAt(), after.id(), pageSize + 1);
+        }
 
-        List<ForumEntity> forumEntities = forumRepository.findAllByOrderByCreatedAtDesc(user);
-        
-        return forumEntities.stream()
-                .map(forumEntity -> convertToPostListDto(forumEntity, currentUserId))
-                .collect(Collectors.toList());
+        boolean hasNext = entries.size() > pageSize;
+        List<ForumTimelineService.Entry> pageEntries = hasNext ? entries.subList(0, pageSize) : entries;
+        List<ForumEntity> page = loadInOrder(pageEntries.stream()
+                .map(ForumTimelineService.Entry::forumId)
+                .collect(Collectors.toList()));
+
+        // 삭제된 글이 빠져도 다음 페이지는 타임라인 위치에서 이어지도록 마지막 항목 기준
+        ForumTimelineService.Entry last = pageEntries.isEmpty() ? null : pageEntries.get(pageEntries.size() - 1);
+        return ForumPostPageDto.builder()
+                .posts(toPostListDtos(page, currentUserId))
+                .nextCursor(hasNext && last != null ? PageCursor.encode(last.createdAt(), last.forumId()) : null)
+                .build();
     }
 
     public ForumPostListResponseDto convertToPostListDto(ForumEntity forumEntity, Long currentUserId) {
-        int totalComments = forumCommentRepository.countByForumId(forumEntity.getId());
-        int totalLikes = forumLikeRepository.countByForumId(forumEntity.getId());
-        List<String> recentLikerPhotos = forumLikeRepository.findTop3ByForumIdOrderByCreatedAtDesc(forumEntity.getId())
-                .stream()
-                .map(like -> like.getLiker() != null ? like.getLiker().getProfilePhotoUrl() : null)
-                .collect(Collectors.toList());
-        boolean isLiked = false;
-        boolean isAuthor = false;
-        if (currentUserId != null && forumEntity.getWriter() != null) {
-            isLiked = forumLikeRepository.findByForumIdAndLikerId(forumEntity.getId(), currentUserId).isPresent();
-            isAuthor = forumEntity.getWriter().getId().equals(currentUserId);
+        return toPostListDtos(List.of(forumEntity), currentUserId).get(0);
+    }
+
+    /**
+     * 게시글 목록 → 카드 DTO 목록
+     * - 댓글/좋아요 수는 forum 의 카운터 컬럼을 그대로 사용합니다.
+     * - 최근 좋아요 3명은 ForumRecentLikers 의 메모리 버퍼 (버퍼에 없는 게시글만 묶어서 1회 조회)
+     * - 내가 누른 좋아요는 게시글 id 묶음으로 한 번만 조회합니다.
+     * → 게시글 수와 관계없이 쿼리 최대 2회 (작성자/지역/이미지는 호출부에서 fetch join 으로 함께 로딩)
+     */
+    private List<ForumPostListResponseDto> toPostListDtos(List<ForumEntity> forumEntities, Long currentUserId) {
+        if (forumEntities.isEmpty()) {
+            return List.of();
         }
-        return new ForumPostListResponseDto(
-                forumEntity,
-                totalComments,
-                forumEntity.getCreatedAt(),
-                totalLikes,
-                isLiked,
-                recentLikerPhotos,
-                isAuthor
-        );
+
+        List<Long> forumIds = forumEntities.stream().map(ForumEntity::getId).collect(Collectors.toList());
+
+        Map<Long, List<String>> recentLikerPhotos = forumRecentLikers.photosOf(forumIds);
+        Set<Long> likedIds = currentUserId != null
+                ? new HashSet<>(forumLikeRepository.findLikedForumIds(forumIds, currentUserId))
+                : Set.of();
+
+        return forumEntities.stream()
+                .map(forumEntity -> {
+                    Long id = forumEntity.getId();
+                    boolean isAuthor = currentUserId != null && forumEntity.getWriter() != null
+                            && forumEntity.getWriter().getId().equals(currentUserId);
+
+                    return new ForumPostListResponseDto(
+                            forumEntity,
+                            forumEntity.getCommentCount(),
+                            forumEntity.getCreatedAt(),
+                            forumEntity.getLikeCount(),
+                            likedIds.contains(id),
+                            recentLikerPhotos.getOrDefault(id, List.of()),
+                            isAuthor
+                    );
+                })
+                .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
@@ -307,7 +439,7 @@ public class ForumService {
         ForumEntity forum = forumRepository.findByIdWithDetails(forumId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 게시물을 찾을 수 없습니다. id=" + forumId));
 
-        int totalLikes = forumLikeRepository.countByForumId(forumId);
+        int totalLikes = forum.getLikeCount();
         boolean isLiked = false;
         if (currentUserId != null) {
             isLiked = forumLikeRepository.findByForumIdAndLikerId(forumId, currentUserId).isPresent();
@@ -320,4 +452,17 @@ public class ForumService {
 
         return new ForumDetailViewDto(forum, totalLikes, isLiked, commentDtos, currentUserId);
     }
-}
\ No newline at end of file
+
+    // =======================
+    // 커밋 후 홈 타임라인 fan-out, 지역 목록 캐시 무효화용 이벤트 타입
+    // =======================
+    public static record ForumCreatedEvent(Long forumId, Long writerId, Long areaId, LocalDateTime createdAt) {
+    }
+
+    // =======================
+    // 커밋 후 지역 목록 캐시 무효화용 이벤트 타입 (글 수정/삭제, 댓글, 좋아요)
+    // - areaId 를 모르는 호출부는 null (캐시가 글 id 로 지역을 찾음)
+    // =======================
+    public static record ForumChangedEvent(Long forumId, Long areaId) {
+    }
+}
@@ -0,0 +1,463 @@
+package io.github.nokasegu.post_here.forum.service;
+
+import io.github.nokasegu.post_here.follow.repository.FollowingRepository;
+import io.github.nokasegu.post_here.follow.service.FollowingService.FollowCreatedEvent;
+import io.github.nokasegu.post_here.follow.service.FollowingService.UnfollowedEvent;
+import io.github.nokasegu.post_here.forum.dto.ForumTimelineEntryDto;
+import io.github.nokasegu.post_here.forum.repository.ForumRepository;
+import io.github.nokasegu.post_here.forum.repository.ForumTimelineRepository;
+import io.github.nokasegu.post_here.forum.service.ForumService.ForumCreatedEvent;
+import io.github.nokasegu.post_here.userInfo.repository.UserInfoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * ForumTimelineService
+ * <p>
+ * 역할
+ * - 팔로우한 사용자(와 본인)의 포럼 게시글을 최신순으로 보여주는 홈 타임라인을 관리합니다.
+ * <p>
+ * 쓰기 (fan-out-on-write, 게시글 커밋 후 단일 스레드에서)
+ * - 새 글을 작성자 본인과 팔로워 전원의 timeline 행으로 한 문장에 넣고(INSERT ... SELECT),
+ * 메모리에 올라와 있는 팔로워 버퍼에도 끼워 넣습니다.
+ * - 팔로워가 fanout-threshold 명을 넘는 작성자는 나눠 넣지 않고(본인 행만),
+ * 읽을 때 forum 에서 직접 가져와 합칩니다(fan-out-on-read).
+ * <p>
+ * 읽기
+ * - 사용자별 최신 ring-size 건을 메모리 버퍼(access-order LRU, max-users)에 두고, 그 안에서 끝나면 쿼리 없이 응답합니다.
+ * - 버퍼를 넘어가는 페이지는 timeline 범위 조회 1회 (ix_timeline_owner_created)
+ * - 버퍼는 이 인스턴스의 fan-out 으로만 갱신되므로, ring-ttl-ms 가 지나면 버리고 timeline 에서 다시 읽습니다.
+ * (다른 인스턴스에서 나눠 넣은 글은 최대 ring-ttl-ms 늦게 보임)
+ * <p>
+ * 정리/재구성
+ * - 팔로우: 대상의 최근 글을 채워 넣고, 언팔로우: 대상의 글을 빼냅니다. (해당 사용자 버퍼는 버림)
+ * - retention-days 보다 오래된 항목은 주기적으로 삭제합니다.
+ * - rebuild(ownerId): forum/following 만으로 한 사용자의 타임라인을 처음부터 다시 만듭니다.
+ * rebuild-on-startup=true 면 기동 시 전체 사용자에 대해 수행합니다. (유실 복구용, 도입 시 채우기는 migration.sql)
+ * - 재구성은 fan-out 과 다른 스레드에서 돌아, 전체 재구성 중에도 새 글은 바로 타임라인에 들어갑니다.
+ * - 첫 페이지를 읽었는데 timeline 행이 하나도 없는 사용자는(도입 전 데이터, 유실) forum 에서 직접 읽어 응답하고
+ * 그 사용자만 재구성을 예약합니다. 재구성이 끝날 때까지는 계속 forum 에서 읽습니다.
+ * - 삭제된 게시글의 timeline 행은 FK 로 함께 지워지고, 버퍼에 남은 id 는 상세 로딩에서 빠집니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ForumTimelineService {
+
+    private static final Comparator<Entry> NEWEST_FIRST =
+            Comparator.comparing(Entry::createdAt).thenComparingLong(Entry::forumId).reversed();
+
+    private final ForumTimelineRepository forumTimelineRepository;
+    private final ForumRepository forumRepository;
+    private final FollowingRepository followingRepository;
+    private final UserInfoRepository userInfoRepository;
+
+    @Value("${custom.forum.timeline.ring-size:200}")
+    private int ringSize;
+
+    @Value("${custom.forum.timeline.max-users:20000}")
+    private int maxUsers;
+
+    @Value("${custom.forum.timeline.ring-ttl-ms:30000}")
+    private long ringTtlMs;
+
+    @Value("${custom.forum.timeline.fanout-threshold:5000}")
+    private long fanoutThreshold;
+
+    @Value("${custom.forum.timeline.rebuild-size:1000}")
+    private int rebuildSize;
+
+    @Value("${custom.forum.timeline.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${custom.forum.timeline.trim-chunk-size:5000}")
+    private int trimChunkSize;
+
+    @Value("${custom.forum.timeline.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    // ownerId → 최신 ring-size 건 (access-order LRU)
+    private final Map<Long, Ring> rings = Collections.synchronizedMap(
+            new LinkedHashMap<Long, Ring>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Ring> eldest) {
+                    return size() > maxUsers;
+                }
+            });
+
+    // 버퍼 변경 세대: DB 에서 읽는 사이 쓰기/무효화가 끼어들면 읽은 버퍼를 올리지 않음
+    private final AtomicLong epoch = new AtomicLong();
+
+    // 팔로워가 fanout-threshold 를 넘는 작성자 (fan-out-on-read 대상, 주기적으로 갱신)
+    private volatile Set<Long> heavyWriters = Set.of();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "forum-timeline");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 재구성 전용 (전체 재구성이 fan-out 을 막지 않도록)
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "forum-timeline-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 타임라인이 비어 재구성을 기다리는 사용자 (그동안은 forum 에서 직접 읽음)
+    private final Set<Long> rebuilding = ConcurrentHashMap.newKeySet();
+
+    // 재구성을 마친 사용자 (다시 비어 있어도 재구성하지 않음, LRU)
+    private final Map<Long, Boolean> rebuilt = Collections.synchronizedMap(
+            new LinkedHashMap<Long, Boolean>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                    return size() > maxUsers;
+                }
+            });
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        rebuildExecutor.shutdownNow();
+    }
+
+    // ===================== 읽기 =====================
+
+    /**
+     * (afterAt, afterId) 보다 오래된 타임라인 항목을 최신순으로 최대 limit 건 반환합니다. (after == null: 처음부터)
+     */
+    public List<Entry> read(Long ownerId, LocalDateTime afterAt, Long afterId, int limit) {
+        if (rebuilding.contains(ownerId)) {
+            return readFromForum(ownerId, afterAt, afterId, limit);
+        }
+        List<Entry> pushed = readPushed(ownerId, afterAt, afterId, limit);
+        if (pushed.isEmpty() && afterAt == null && needsRebuild(ownerId)) {
+            return readFromForum(ownerId, null, null, limit);
+        }
+
+        Set<Long> heavy = heavyWriters;
+        if (heavy.isEmpty()) {
+            return pushed;
+        }
+        List<Long> followedHeavy = followingRepository.findFollowedIdsByMeIn(ownerId, new ArrayList<>(heavy));
+        if (followedHeavy.isEmpty()) {
+            return pushed;
+        }
+
+        PageRequest page = PageRequest.of(0, limit);
+        List<Entry> pulled = toEntries(afterAt == null
+                ? forumRepository.findTimelineEntriesByWriters(followedHeavy, page)
+                : forumRepository.findTimelineEntriesByWritersAfter(followedHeavy, afterAt, afterId, page));
+        return merge(pushed, pulled, limit);
+    }
+
+    private List<Entry> readPushed(Long ownerId, LocalDateTime afterAt, Long afterId, int limit) {
+        Ring ring = rings.get(ownerId);
+        if (ring != null && System.currentTimeMillis() - ring.loadedAt > ringTtlMs) {
+            // 다른 인스턴스에서 나눠 넣은 글을 따라잡도록 다시 읽음
+            rings.remove(ownerId, ring);
+            ring = null;
+        }
+        if (ring == null && afterAt == null) {
+            ring = loadRing(ownerId);
+        }
+        if (ring != null) {
+            List<Entry> hit = ring.after(afterAt == null ? null : new Entry(afterId, 0L, afterAt), limit);
+            if (hit != null) {
+                return hit;
+            }
+        }
+
+        PageRequest page = PageRequest.of(0, limit);
+        return toEntries(afterAt == null
+                ? forumTimelineRepository.findPage(ownerId, page)
+                : forumTimelineRepository.findPageAfter(ownerId, afterAt, afterId, page));
+    }
+
+    // 타임라인 행이 없고 재구성한 적도 없으면 재구성을 예약 (예약했으면 true)
+    private boolean needsRebuild(Long ownerId) {
+        if (rebuilt.containsKey(ownerId) || forumTimelineRepository.existsByOwnerId(ownerId)) {
+            return false;
+        }
+        if (rebuilding.add(ownerId)) {
+            submitRebuild("rebuild owner=" + ownerId, () -> rebuild(ownerId));
+        }
+        return true;
+    }
+
+    // 재구성 전 fan-out-on-read: 본인 + 팔로우 중인 작성자의 글을 forum 에서 직접
+    private List<Entry> readFromForum(Long ownerId, LocalDateTime afterAt, Long afterId, int limit) {
+        List<Long> writers = new ArrayList<>(followingRepository.findFollowedIdsByMeId(ownerId));
+        writers.add(ownerId);
+
+        PageRequest page = PageRequest.of(0, limit);
+        return toEntries(afterAt == null
+                ? forumRepository.findTimelineEntriesByWriters(writers, page)
+                : forumRepository.findTimelineEntriesByWritersAfter(writers, afterAt, afterId, page));
+    }
+
+    private Ring loadRing(Long ownerId) {
+        long seen = epoch.get();
+        List<Entry> entries = toEntries(forumTimelineRepository.findPage(ownerId, PageRequest.of(0, ringSize)));
+        Ring ring = new Ring(entries, entries.size() < ringSize);
+        synchronized (rings) {
+            if (epoch.get() == seen) {
+                rings.put(ownerId, ring);
+            }
+        }
+        return ring;
+    }
+
+    private static List<Entry> merge(List<Entry> a, List<Entry> b, int limit) {
+        List<Entry> all = new ArrayList<>(a.size() + b.size());
+        all.addAll(a);
+        all.addAll(b);
+        all.sort(NEWEST_FIRST);
+
+        List<Entry> result = new ArrayList<>(Math.min(limit, all.size()));
+        Set<Long> seen = new HashSet<>();
+        for (Entry entry : all) {
+            if (result.size() >= limit) break;
+            if (seen.add(entry.forumId())) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private static List<Entry> toEntries(List<ForumTimelineEntryDto> rows) {
+        return rows.stream()
+                .map(row -> new Entry(row.getForumId(), row.getWriterId(), row.getCreatedAt()))
+                .collect(Collectors.toList());
+    }
+
+    // ===================== 쓰기 =====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onForumCreated(ForumCreatedEvent ev) {
+        Entry entry = new Entry(ev.forumId(), ev.writerId(), ev.createdAt());
+        submit("fanout forum=" + ev.forumId(), () -> fanOut(entry));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFollowCreated(FollowCreatedEvent ev) {
+        submit("follow owner=" + ev.followerId(), () -> {
+            forumTimelineRepository.backfillWriter(ev.followerId(), ev.followedId(), ringSize);
+            invalidate(ev.followerId());
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUnfollowed(UnfollowedEvent ev) {
+        submit("unfollow owner=" + ev.followerId(), () -> {
+            forumTimelineRepository.deleteByOwnerAndWriter(ev.followerId(), ev.followedId());
+            invalidate(ev.followerId());
+        });
+    }
+
+    private void fanOut(Entry entry) {
+        long writerId = entry.writerId();
+        forumTimelineRepository.insertEntry(writerId, entry.forumId(), writerId, entry.createdAt());
+
+        List<Long> owners = new ArrayList<>();
+        owners.add(writerId);
+        int fanned = 0;
+        if (!heavyWriters.contains(writerId)) {
+            fanned = forumTimelineRepository.fanOutToFollowers(entry.forumId(), writerId, entry.createdAt());
+            owners.addAll(followingRepository.findFollowerIdsByMeId(writerId));
+        }
+
+        epoch.incrementAndGet();
+        for (Long ownerId : owners) {
+            Ring ring = rings.get(ownerId);
+            if (ring != null) {
+                ring.add(entry, ringSize);
+            }
+        }
+        log.debug("[FORUM-TIMELINE] forum={} writer={} fanned={}", entry.forumId(), writerId, fanned);
+    }
+
+    private void invalidate(Long ownerId) {
+        synchronized (rings) {
+            epoch.incrementAndGet();
+            rings.remove(ownerId);
+        }
+    }
+
+    private void submit(String what, Runnable task) {
+        executor.execute(guarded(what, task));
+    }
+
+    private void submitRebuild(String what, Runnable task) {
+        rebuildExecutor.execute(guarded(what, task));
+    }
+
+    private static Runnable guarded(String what, Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("[FORUM-TIMELINE] {} failed err={}", what, e.toString(), e);
+            }
+        };
+    }
+
+    // ===================== 재구성/정리 =====================
+
+    /**
+     * 한 사용자의 타임라인을 forum/following 만으로 처음부터 다시 만듭니다. (최근 rebuild-size 건)
+     */
+    public void rebuild(Long ownerId) {
+        // 지우고 다시 채우는 동안의 읽기는 forum 에서 직접
+        rebuilding.add(ownerId);
+        try {
+            forumTimelineRepository.deleteByOwner(ownerId);
+            forumTimelineRepository.rebuildOwner(ownerId, rebuildSize);
+            rebuilt.put(ownerId, Boolean.TRUE);
+        } finally {
+            invalidate(ownerId);
+            rebuilding.remove(ownerId);
+        }
+    }
+
+    /**
+     * 전체 사용자의 타임라인 재구성 (재구성 전용 스레드에서 사용자 id 순으로)
+     */
+    public void rebuildAll() {
+        submitRebuild("rebuild-all", () -> {
+            long cursor = 0;
+            int rebuilt = 0;
+            while (true) {
+                List<Long> ids = userInfoRepository.findIdChunk(cursor, PageRequest.of(0, 500));
+                if (ids.isEmpty()) break;
+                for (Long ownerId : ids) {
+                    if (Thread.currentThread().isInterrupted()) return;
+                    rebuild(ownerId);
+                }
+                rebuilt += ids.size();
+                cursor = ids.get(ids.size() - 1);
+            }
+            log.info("[FORUM-TIMELINE] rebuilt {} timelines", rebuilt);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * fan-out-on-read 대상 작성자 갱신
+     * - 대상에서 빠진 작성자는 그동안 나눠 넣지 않은 글(보존 기간 안)을 지금 팔로워들에게 채워 넣습니다.
+     */
+    @Scheduled(fixedDelayString = "${custom.forum.timeline.heavy-refresh-interval-ms:600000}")
+    public void refreshHeavyWriters() {
+        Set<Long> next = new HashSet<>(followingRepository.findIdsFollowedByMoreThan(fanoutThreshold));
+        Set<Long> demoted = new HashSet<>(heavyWriters);
+        demoted.removeAll(next);
+        heavyWriters = Collections.unmodifiableSet(next);
+
+        if (!demoted.isEmpty()) {
+            LocalDateTime since = LocalDateTime.now().minusDays(retentionDays);
+            submit("demote writers=" + demoted, () -> {
+                for (Long writerId : demoted) {
+                    forumTimelineRepository.fanOutWriterSince(writerId, since);
+                }
+                synchronized (rings) {
+                    epoch.incrementAndGet();
+                    rings.clear();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.forum.timeline.trim-interval-ms:3600000}",
+            initialDelayString = "${custom.forum.timeline.trim-initial-delay-ms:600000}")
+    public void trim() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int removed = 0;
+        int count;
+        do {
+            count = forumTimelineRepository.deleteOlderThan(cutoff, trimChunkSize);
+            removed += count;
+        } while (count >= trimChunkSize);
+
+        if (removed > 0) {
+            log.info("[FORUM-TIMELINE] trimmed {} entries older than {}", removed, cutoff);
+        }
+    }
+
+    // ===================== 메모리 버퍼 =====================
+
+    public record Entry(long forumId, long writerId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 사용자 한 명의 최신 항목 버퍼 (NEWEST_FIRST 정렬, 최대 ring-size 건)
+     * - complete: timeline 에 이 버퍼보다 오래된 항목이 없음 (버퍼 밖 페이지도 DB 를 볼 필요 없음)
+     */
+    private static final class Ring {
+
+        private final List<Entry> entries;
+        private final long loadedAt = System.currentTimeMillis();
+        private boolean complete;
+
+        Ring(List<Entry> entries, boolean complete) {
+            this.entries = new ArrayList<>(entries);
+            this.complete = complete;
+        }
+
+        synchronized void add(Entry entry, int capacity) {
+            int i = 0;
+            while (i < entries.size() && NEWEST_FIRST.compare(entries.get(i), entry) < 0) {
+                i++;
+            }
+            for (Entry e : entries) {
+                if (e.forumId() == entry.forumId()) return;
+            }
+            if (i >= capacity) {
+                complete = false;
+                return;
+            }
+
+            entries.add(i, entry);
+            if (entries.size() > capacity) {
+                entries.remove(entries.size() - 1);
+                complete = false;
+            }
+        }
+
+        /**
+         * cursor 보다 오래된 항목 최대 limit 건, 버퍼만으로 답할 수 없으면 null
+         */
+        synchronized List<Entry> after(Entry cursor, int limit) {
+            List<Entry> result = new ArrayList<>(limit);
+            for (Entry e : entries) {
+                if (cursor != null && NEWEST_FIRST.compare(e, cursor) <= 0) continue;
+                result.add(e);
+                if (result.size() >= limit) return result;
+            }
+            return complete ? result : null;
+        }
+    }
+}
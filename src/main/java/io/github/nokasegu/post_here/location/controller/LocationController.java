@@ -2,17 +2,28 @@ package io.github.nokasegu.post_here.location.controller;
 
 import io.github.nokasegu.post_here.common.dto.WrapperDTO;
 import io.github.nokasegu.post_here.common.exception.Code;
-import io.github.nokasegu.post_here.common.util.GeocodingUtil;
+import io.github.nokasegu.post_here.find.dto.FindNearbyResponseDto;
+import io.github.nokasegu.post_here.find.dto.FindTickDto;
+import io.github.nokasegu.post_here.find.service.FindProximityStage;
 import io.github.nokasegu.post_here.find.service.FindService;
 import io.github.nokasegu.post_here.forum.domain.ForumAreaEntity;
 import io.github.nokasegu.post_here.location.dto.LocationRequestDto;
 import io.github.nokasegu.post_here.location.dto.LocationResponseDto;
+import io.github.nokasegu.post_here.location.dto.LocationTickResponseDto;
 import io.github.nokasegu.post_here.location.service.LocationService;
+import io.github.nokasegu.post_here.location.service.LocationThrottle;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 테스트를 위한 거시기
@@ -22,26 +33,119 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class LocationController {
 
-    private final GeocodingUtil geocodingUtil;
     private final LocationService locationService;
     private final FindService findService;
+    private final FindProximityStage findProximityStage;
+    private final LocationThrottle locationThrottle;
 
+    /**
+     * 현재 좌표의 포럼 지역을 응답하고, 열람 가능 판정(알림)은 백그라운드 단계에 등록
+     * - 가장 가까운 fin'd 거리와 다음 핑 권장 간격은 로그인한 사용자 본인에게만 응답합니다.
+     * (body의 user로 남의 거리를 조회할 수 없도록, 비로그인이면 null)
+     */
     @PostMapping("/location")
-    public WrapperDTO<LocationResponseDto> whereAmI(@RequestBody LocationRequestDto location) {
+    public WrapperDTO<LocationResponseDto> whereAmI(@RequestBody LocationRequestDto location,
+                                                    @AuthenticationPrincipal UserDetails userDetails) {
 
-        String address = geocodingUtil.getAddressFromCoordinates(location.getLng(), location.getLat());
         log.info("address: {} {} {}", location.getLng(), location.getLat(), location.getUser());
 
-        ForumAreaEntity area = locationService.getForumArea(address);
-        findService.checkFindReadable(location.getLng(), location.getLat(), location.getUser());
+        String principalEmail = (userDetails != null) ? userDetails.getUsername() : null;
+        String userEmail = (principalEmail != null) ? principalEmail : location.getUser();
+        // body 의 이메일로 들어온 핑은 본인 핑과 다른 키로 (본인 핑이 남이 보낸 결과를 재사용해 평가를 건너뛰지 않도록)
+        String throttleKey = (principalEmail != null || userEmail == null) ? userEmail : "body:" + userEmail;
+
+        // 거의 움직이지 않았으면 이전 포럼 지역을 그대로 응답 (지오코딩/판정 생략)
+        LocationThrottle.Snapshot snapshot = locationThrottle
+                .reuse(throttleKey, location.getLng(), location.getLat(), false, "location")
+                .orElse(null);
+
+        ForumAreaEntity area;
+        double nearest;
+        if (snapshot != null) {
+            area = snapshot.area();
+            nearest = snapshot.nearestFindMeters();
+        } else {
+            area = locationService.resolveForumArea(location.getLng(), location.getLat());
+            nearest = nearestFindMeters(location.getLng(), location.getLat(), principalEmail);
+            // 열람 가능 판정/알림은 백그라운드 단계로 넘기고 포럼 지역만 즉시 응답
+            // body 의 이메일만 있으면 평가만 하고 마지막 위치(근처 팔로워 알림 기준)는 기록하지 않음
+            findProximityStage.submit(userEmail, location.getLng(), location.getLat(), principalEmail != null);
+            locationThrottle.remember(throttleKey, location.getLng(), location.getLat(), area, null, nearest);
+        }
+
+        LocationResponseDto.LocationResponseDtoBuilder data = LocationResponseDto.builder()
+                .forumKey(area.getId().toString())
+                .forumName(area.getAddress());
+        if (principalEmail != null) {
+            data.nearestFindMeters(Double.isFinite(nearest) ? nearest : null)
+                    .nextPingDelayMs(locationService.recommendNextPingDelay(nearest));
+        }
 
         return WrapperDTO.<LocationResponseDto>builder()
                 .status(Code.OK.getCode())
                 .message(Code.OK.getValue())
-                .data(LocationResponseDto.builder()
+                .data(data.build())
+                .build();
+    }
+
+    /**
+     * 위치 핑 1회로 포럼 지역 + 200m 마커 + 50m 열람 가능 id 를 응답하고, FIND_FOUND 알림만 백그라운드 단계에 등록
+     * - /location 과 /find/around 를 한 번의 요청으로 대체합니다.
+     * - 로그인한 사용자 기준으로만 응답합니다. (body의 user는 사용하지 않음, 비로그인 401)
+     * - 거의 움직이지 않았으면 이전 결과(포럼 지역, 마커)를 그대로 응답합니다. (LocationThrottle)
+     */
+    @PostMapping("/location/tick")
+    public WrapperDTO<LocationTickResponseDto> tick(@RequestBody LocationRequestDto location,
+                                                    @AuthenticationPrincipal UserDetails userDetails) {
+
+        if (userDetails == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증 필요");
+        }
+        String userEmail = userDetails.getUsername();
+
+        LocationThrottle.Snapshot snapshot = locationThrottle
+                .reuse(userEmail, location.getLng(), location.getLat(), true, "tick")
+                .orElse(null);
+
+        ForumAreaEntity area;
+        List<FindNearbyResponseDto> finds;
+        double nearest;
+        if (snapshot != null) {
+            area = snapshot.area();
+            finds = snapshot.markers();
+            nearest = snapshot.nearestFindMeters();
+        } else {
+            area = locationService.resolveForumArea(location.getLng(), location.getLat());
+            // 마커/가장 가까운 거리/열람 가능 목록을 후보 목록 한 번으로, 알림만 백그라운드 단계로
+            FindTickDto tick = findService.evaluateTick(location.getLng(), location.getLat(), userEmail);
+            finds = tick.getMarkers();
+            nearest = tick.getNearestFindMeters();
+            findProximityStage.submitReadable(userEmail, tick.getUser(), tick.getReadable());
+            locationThrottle.remember(userEmail, location.getLng(), location.getLat(), area, finds, nearest);
+        }
+
+        List<Long> readableIds = finds.stream()
+                .filter(find -> find.getRegion() == 1)
+                .map(FindNearbyResponseDto::getFind_pk)
+                .collect(Collectors.toList());
+
+        return WrapperDTO.<LocationTickResponseDto>builder()
+                .status(Code.OK.getCode())
+                .message(Code.OK.getValue())
+                .data(LocationTickResponseDto.builder()
                         .forumKey(area.getId().toString())
                         .forumName(area.getAddress())
+                        .finds(finds)
+                        .readableIds(readableIds)
+                        .nearestFindMeters(Double.isFinite(nearest) ? nearest : null)
+                        .nextPingDelayMs(locationService.recommendNextPingDelay(nearest))
                         .build())
                 .build();
     }
+
+    // 모르면 NaN
+    private double nearestFindMeters(double lng, double lat, String userEmail) {
+        if (userEmail == null) return Double.NaN;
+        return findService.getNearestFindDistance(lng, lat, userEmail).orElse(Double.NaN);
+    }
 }
@@ -0,0 +1,31 @@
+package io.github.nokasegu.post_here.location.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 역지오코딩 결과 캐시 (geohash 셀 → 주소)
+ */
+@Entity
+@Table(name = "geocode_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeocodeCacheEntity {
+
+    @Id
+    @Column(name = "cell", length = 12)
+    private String cell;
+
+
+    @Column(name = "address", nullable = false)
+    private String address;
+
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
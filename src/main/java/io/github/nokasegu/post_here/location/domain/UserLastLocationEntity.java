@@ -0,0 +1,32 @@
+package io.github.nokasegu.post_here.location.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.locationtech.jts.geom.Point;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 마지막 위치 (사용자당 1행)
+ * - 쓰기는 UserLastLocationStore 가 모아서(coalescing) 주기적으로 upsert 합니다.
+ */
+@Entity
+@Table(name = "user_last_location")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserLastLocationEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+
+    @Column(name = "coordinates", nullable = false)
+    private Point coordinates;
+
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
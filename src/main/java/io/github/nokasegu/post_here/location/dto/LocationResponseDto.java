@@ -9,4 +9,6 @@ public class LocationResponseDto {
 
     private String forumKey;
     private String forumName;
+    private Double nearestFindMeters; // 가장 가까운 팔로우 작성자 fin'd 까지 거리(m), 없거나 모르면 null
+    private Long nextPingDelayMs;     // 서버 권장 다음 핑 대기 시간(ms)
 }
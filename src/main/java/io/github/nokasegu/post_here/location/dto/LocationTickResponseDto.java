@@ -0,0 +1,25 @@
+package io.github.nokasegu.post_here.location.dto;
+
+import io.github.nokasegu.post_here.find.dto.FindNearbyResponseDto;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * /location/tick 응답
+ * - forumKey, forumName: 현재 좌표의 포럼 지역 (/location 과 동일)
+ * - finds: 200m 이내 fin'd 마커 목록 (/find/around 와 동일, region 1 = 50m 이내 열람 가능)
+ * - readableIds: 50m 이내 열람 가능 fin'd id (finds 중 region 1)
+ */
+@Builder
+@Data
+public class LocationTickResponseDto {
+
+    private String forumKey;
+    private String forumName;
+    private Double nearestFindMeters; // 가장 가까운 팔로우 작성자 fin'd 까지 거리(m), 없거나 모르면 null
+    private Long nextPingDelayMs;     // 서버 권장 다음 핑 대기 시간(ms)
+    private List<FindNearbyResponseDto> finds;
+    private List<Long> readableIds;
+}
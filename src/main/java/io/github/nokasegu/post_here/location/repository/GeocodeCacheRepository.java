@@ -0,0 +1,9 @@
+package io.github.nokasegu.post_here.location.repository;
+
+import io.github.nokasegu.post_here.location.domain.GeocodeCacheEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCacheEntity, String> {
+}
@@ -0,0 +1,56 @@
+package io.github.nokasegu.post_here.location.repository;
+
+import io.github.nokasegu.post_here.location.domain.UserLastLocationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UserLastLocationRepository extends JpaRepository<UserLastLocationEntity, Long> {
+
+    // 사용자 마지막 위치 upsert (UserLastLocationStore 의 flush 에서 호출, 트랜잭션 밖)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_last_location (user_id, coordinates, updated_at)
+            VALUES (:userId, ST_SRID(POINT(:lng, :lat), 4326), :updatedAt)
+            ON DUPLICATE KEY UPDATE
+                coordinates = VALUES(coordinates),
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("lng") double lng,
+               @Param("lat") double lat,
+               @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 작성자(writerId)를 팔로우하는 사용자 중 마지막 위치가 (lng, lat) 반경 radius(m) 이내이고
+     * since 이후에 갱신된 사용자 id
+     * - 공간 인덱스(ix_last_location_geo)로 주변 사용자만 추린 뒤 팔로우 관계를 확인합니다.
+     */
+    @Query(value = """
+            SELECT l.user_id
+            FROM user_last_location l
+            JOIN following fw
+                ON fw.follower_id = l.user_id
+               AND fw.followed_id = :writerId
+            WHERE
+                MBRContains(
+                    ST_SRID(LINESTRING(POINT(:minLng, :minLat), POINT(:maxLng, :maxLat)), 4326),
+                    l.coordinates)
+                AND ST_Distance_Sphere(l.coordinates, ST_SRID(POINT(:lng, :lat), 4326)) <= :radius
+                AND l.updated_at >= :since
+            """, nativeQuery = true)
+    List<Long> findFollowersNear(@Param("writerId") Long writerId,
+                                 @Param("lng") double lng, @Param("lat") double lat,
+                                 @Param("minLng") double minLng, @Param("minLat") double minLat,
+                                 @Param("maxLng") double maxLng, @Param("maxLat") double maxLat,
+                                 @Param("radius") double radius,
+                                 @Param("since") LocalDateTime since);
+}
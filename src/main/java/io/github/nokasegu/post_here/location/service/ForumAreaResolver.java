@@ -0,0 +1,183 @@
+package io.github.nokasegu.post_here.location.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.nokasegu.post_here.forum.domain.ForumAreaEntity;
+import io.github.nokasegu.post_here.forum.repository.ForumAreaRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.*;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ForumAreaResolver
+ * <p>
+ * 역할
+ * - 행정동 경계 폴리곤(GeoJSON)을 JTS STRtree 에 올려 두고, 좌표 → forum_area 를 네트워크 없이 메모리에서 찾습니다.
+ * <p>
+ * 경계 파일
+ * - custom.geo.boundary-file (예: classpath:geo/adm-dong.geojson 또는 file:/var/config/adm-dong.geojson)
+ * - 저장소에는 경계 데이터를 포함하지 않습니다. 행정동 경계 GeoJSON 을 받아 위 경로에 두고 설정합니다.
+ * - FeatureCollection 의 각 feature 에서 properties[custom.geo.name-property](기본 adm_nm)가
+ * forum_area.address 와 정확히 같은 것만 사용합니다. (예: "서울특별시 강남구 신사동")
+ * - 지원 geometry: Polygon, MultiPolygon
+ * <p>
+ * - 설정하지 않으면(빈 값) 폴리곤 판정 없이 Google 역지오코딩만 사용합니다. (google-fallback=false 와 함께면 기동 실패)
+ * - 설정했는데 파일이 없거나 읽을 수 없으면 기동을 중단합니다. (조용히 Google 로만 돌지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ForumAreaResolver {
+
+    private final ForumAreaRepository forumAreaRepository;
+    private final GeometryFactory geometryFactory;
+    private final ObjectMapper objectMapper;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${custom.geo.boundary-file:}")
+    private String boundaryFile;
+
+    @Value("${custom.geo.google-fallback:true}")
+    private boolean googleFallback;
+
+    @Value("${custom.geo.name-property:adm_nm}")
+    private String nameProperty;
+
+    private volatile STRtree tree;
+
+    @PostConstruct
+    public void validate() {
+        if (!isConfigured()) {
+            if (!googleFallback) {
+                throw new IllegalStateException("custom.geo.boundary-file 이 없으면 custom.geo.google-fallback 을 끌 수 없습니다.");
+            }
+            log.info("[AREA-RESOLVER] boundary file not configured (Google 역지오코딩만 사용)");
+            return;
+        }
+        if (!resourceLoader.getResource(boundaryFile).exists()) {
+            throw new IllegalStateException("행정동 경계 파일을 찾을 수 없습니다: " + boundaryFile);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!isConfigured()) return;
+
+        Resource resource = resourceLoader.getResource(boundaryFile);
+
+        Map<String, ForumAreaEntity> areas = new HashMap<>();
+        for (ForumAreaEntity area : forumAreaRepository.findAll()) {
+            areas.put(area.getAddress(), area);
+        }
+
+        STRtree next = new STRtree();
+        int loaded = 0;
+        try (InputStream in = resource.getInputStream()) {
+            JsonNode root = objectMapper.readTree(in);
+            for (JsonNode feature : root.path("features")) {
+                String name = feature.path("properties").path(nameProperty).asText(null);
+                ForumAreaEntity area = (name == null) ? null : areas.get(name);
+                if (area == null) continue;
+
+                Geometry geometry = toGeometry(feature.path("geometry"));
+                if (geometry == null) continue;
+
+                next.insert(geometry.getEnvelopeInternal(),
+                        new AreaPolygon(PreparedGeometryFactory.prepare(geometry), area));
+                loaded++;
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("행정동 경계 파일을 읽을 수 없습니다: " + boundaryFile, e);
+        }
+
+        next.build();
+        tree = next;
+        log.info("[AREA-RESOLVER] loaded {} polygons for {} forum areas", loaded, areas.size());
+    }
+
+    private boolean isConfigured() {
+        return boundaryFile != null && !boundaryFile.isBlank();
+    }
+
+    /**
+     * 경계 데이터가 적재되어 있는지
+     */
+    public boolean isReady() {
+        return tree != null;
+    }
+
+    /**
+     * 좌표가 속한 forum_area 를 찾습니다. (적재 전이거나 어느 폴리곤에도 속하지 않으면 empty)
+     */
+    public Optional<ForumAreaEntity> resolve(double lng, double lat) {
+        STRtree current = tree;
+        if (current == null) return Optional.empty();
+
+        Point point = geometryFactory.createPoint(new Coordinate(lng, lat));
+        @SuppressWarnings("unchecked")
+        List<AreaPolygon> candidates = current.query(point.getEnvelopeInternal());
+        for (AreaPolygon candidate : candidates) {
+            if (candidate.polygon().covers(point)) {
+                return Optional.of(candidate.area());
+            }
+        }
+        return Optional.empty();
+    }
+
+    // ===================== GeoJSON → JTS =====================
+
+    private Geometry toGeometry(JsonNode geometry) {
+        String type = geometry.path("type").asText();
+        JsonNode coordinates = geometry.path("coordinates");
+
+        if ("Polygon".equals(type)) {
+            return toPolygon(coordinates);
+        }
+        if ("MultiPolygon".equals(type)) {
+            Polygon[] polygons = new Polygon[coordinates.size()];
+            for (int i = 0; i < polygons.length; i++) {
+                polygons[i] = toPolygon(coordinates.get(i));
+            }
+            return geometryFactory.createMultiPolygon(polygons);
+        }
+        return null;
+    }
+
+    private Polygon toPolygon(JsonNode rings) {
+        LinearRing shell = toRing(rings.get(0));
+        LinearRing[] holes = new LinearRing[rings.size() - 1];
+        for (int i = 1; i < rings.size(); i++) {
+            holes[i - 1] = toRing(rings.get(i));
+        }
+        return geometryFactory.createPolygon(shell, holes);
+    }
+
+    private LinearRing toRing(JsonNode ring) {
+        Coordinate[] coords = new Coordinate[ring.size()];
+        for (int i = 0; i < coords.length; i++) {
+            JsonNode c = ring.get(i);
+            // GeoJSON 좌표 순서는 [lng, lat]
+            coords[i] = new Coordinate(c.get(0).asDouble(), c.get(1).asDouble());
+        }
+        return geometryFactory.createLinearRing(coords);
+    }
+
+    private record AreaPolygon(PreparedGeometry polygon, ForumAreaEntity area) {
+    }
+}
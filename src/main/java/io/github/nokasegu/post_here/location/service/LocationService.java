@@ -1,17 +1,77 @@
 package io.github.nokasegu.post_here.location.service;
 
+import io.github.nokasegu.post_here.find.service.FindService;
 import io.github.nokasegu.post_here.forum.domain.ForumAreaEntity;
 import io.github.nokasegu.post_here.forum.service.ForumService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LocationService {
 
     private final ForumService forumService;
+    private final ReverseGeocodingService reverseGeocodingService;
+    private final ForumAreaResolver forumAreaResolver;
+
+    @Value("${custom.geo.google-fallback:true}")
+    private boolean googleFallback;
+
+    // 다음 핑 간격 힌트
+    @Value("${custom.location.ping-hint.min-delay-ms:5000}")
+    private long minPingDelayMs;
+
+    @Value("${custom.location.ping-hint.max-delay-ms:120000}")
+    private long maxPingDelayMs;
+
+    @Value("${custom.location.ping-hint.default-delay-ms:15000}")
+    private long defaultPingDelayMs;
+
+    @Value("${custom.location.ping-hint.assumed-speed-mps:3.0}")
+    private double assumedSpeedMps;
 
     public ForumAreaEntity getForumArea(String address) {
         return forumService.getAreaByAddress(address);
     }
+
+    /**
+     * 좌표가 속한 포럼 지역을 조회합니다.
+     * - 1순위: 행정동 경계 폴리곤(ForumAreaResolver, 네트워크 없음)
+     * - 2순위(google-fallback): 역지오코딩(셀 캐시) → forum_area 조회
+     */
+    public ForumAreaEntity resolveForumArea(double lng, double lat) {
+        Optional<ForumAreaEntity> local = forumAreaResolver.resolve(lng, lat);
+        if (local.isPresent()) {
+            return local.get();
+        }
+        if (!googleFallback) {
+            throw new IllegalArgumentException("존재하지 않는 지역 정보입니다.");
+        }
+
+        String address = reverseGeocodingService.getAddress(lng, lat);
+        log.info("address: {} {} {}", lng, lat, address);
+        return getForumArea(address);
+    }
+
+    /**
+     * 가장 가까운 fin'd 까지의 거리로 다음 핑까지의 권장 대기 시간(ms)을 계산합니다.
+     * - 열람 가능 반경 바깥 남은 거리를 assumed-speed 로 이동하는 시간의 절반(여유)을 [min, max] 로 제한
+     * - 거리를 모르면 default, 후보가 없으면 max
+     */
+    public long recommendNextPingDelay(double nearestFindMeters) {
+        if (Double.isNaN(nearestFindMeters)) {
+            return defaultPingDelayMs;
+        }
+        if (Double.isInfinite(nearestFindMeters)) {
+            return maxPingDelayMs;
+        }
+        double gap = Math.max(0, nearestFindMeters - FindService.READABLE_RADIUS_METERS);
+        long delay = (long) (gap / assumedSpeedMps * 1000 * 0.5);
+        return Math.max(minPingDelayMs, Math.min(maxPingDelayMs, delay));
+    }
 }
@@ -0,0 +1,99 @@
+package io.github.nokasegu.post_here.location.service;
+
+import io.github.nokasegu.post_here.common.util.GeoUtil;
+import io.github.nokasegu.post_here.find.dto.FindNearbyResponseDto;
+import io.github.nokasegu.post_here.forum.domain.ForumAreaEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * LocationThrottle
+ * <p>
+ * 역할
+ * - 사용자별 "마지막으로 평가한 위치와 결과(포럼 지역, 마커)"를 보관하고,
+ * 거의 움직이지 않았거나 너무 촘촘히 들어온 핑은 재평가 없이 이전 결과를 돌려주게 합니다.
+ * <p>
+ * 재사용 조건 (둘 중 하나)
+ * - 마지막 평가 후 min-interval-ms 가 지나지 않음 (초당 여러 번 들어오는 핑)
+ * - 마지막 평가 위치에서 min-move-meters 미만으로 움직였고 max-interval-ms 가 지나지 않음
+ * <p>
+ * - 비교 기준은 "마지막 핑"이 아니라 "마지막 평가 위치"이므로 조금씩 이동해도 누적 거리로 재평가됩니다.
+ * - 지표: location.ping.evaluated / location.ping.skipped (endpoint 태그)
+ */
+@Component
+@RequiredArgsConstructor
+public class LocationThrottle {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.location.throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${custom.location.throttle.min-move-meters:15}")
+    private double minMoveMeters;
+
+    @Value("${custom.location.throttle.min-interval-ms:1000}")
+    private long minIntervalMs;
+
+    @Value("${custom.location.throttle.max-interval-ms:30000}")
+    private long maxIntervalMs;
+
+    @Value("${custom.location.throttle.max-users:100000}")
+    private int maxUsers;
+
+    // userEmail → 마지막 평가 결과 (access-order LRU)
+    private final Map<String, Snapshot> snapshots = Collections.synchronizedMap(
+            new LinkedHashMap<String, Snapshot>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                    return size() > maxUsers;
+                }
+            });
+
+    /**
+     * 이전 평가 결과를 재사용할 수 있으면 반환합니다.
+     *
+     * @param needMarkers 마커 목록까지 필요한 요청인지(/location/tick)
+     * @param endpoint    지표 태그
+     */
+    public Optional<Snapshot> reuse(String userEmail, double lng, double lat, boolean needMarkers, String endpoint) {
+        Snapshot last = (enabled && userEmail != null) ? snapshots.get(userEmail) : null;
+
+        if (last != null && (!needMarkers || last.markers() != null)) {
+            long elapsed = System.currentTimeMillis() - last.evaluatedAt();
+            if (elapsed < minIntervalMs
+                    || (elapsed < maxIntervalMs
+                    && GeoUtil.distanceMeters(last.lat(), last.lng(), lat, lng) < minMoveMeters)) {
+                meterRegistry.counter("location.ping.skipped", "endpoint", endpoint).increment();
+                return Optional.of(last);
+            }
+        }
+
+        meterRegistry.counter("location.ping.evaluated", "endpoint", endpoint).increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 평가 결과 기록
+     * - markers: /location 처럼 마커를 계산하지 않은 경우 null
+     * - nearestFindMeters: 가장 가까운 후보까지 거리(모르면 NaN, 후보 없음 POSITIVE_INFINITY)
+     */
+    public void remember(String userEmail, double lng, double lat, ForumAreaEntity area,
+                         List<FindNearbyResponseDto> markers, double nearestFindMeters) {
+        if (!enabled || userEmail == null) return;
+        snapshots.put(userEmail,
+                new Snapshot(lng, lat, System.currentTimeMillis(), area, markers, nearestFindMeters));
+    }
+
+    public record Snapshot(double lng, double lat, long evaluatedAt, ForumAreaEntity area,
+                           List<FindNearbyResponseDto> markers, double nearestFindMeters) {
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.nokasegu.post_here.location.service;
+
+import io.github.nokasegu.post_here.common.util.GeoUtil;
+import io.github.nokasegu.post_here.common.util.GeocodingUtil;
+import io.github.nokasegu.post_here.location.domain.GeocodeCacheEntity;
+import io.github.nokasegu.post_here.location.repository.GeocodeCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ReverseGeocodingService
+ * <p>
+ * 역할
+ * - 좌표 → 주소(역지오코딩)를 geohash 셀 단위로 캐시합니다. 위치 핑은 수 m 단위로만 움직이므로
+ * 같은 셀 안에서는 Google Geocoding API 를 다시 부르지 않습니다.
+ * <p>
+ * 조회 순서
+ * 1) 메모리 LRU(memory-ttl-ms, max-entries)
+ * 2) geocode_cache 테이블(db-ttl-ms) - 재시작/다른 인스턴스와 공유
+ * 3) Google API (셀 중심 좌표로 호출 → 같은 셀은 항상 같은 결과)
+ * <p>
+ * - 같은 셀에 대한 동시 조회는 하나의 요청으로 합칩니다(single-flight).
+ * - 조회 실패(null)는 캐시하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReverseGeocodingService {
+
+    private final GeocodingUtil geocodingUtil;
+    private final GeocodeCacheRepository geocodeCacheRepository;
+
+    @Value("${custom.geocode.cell-precision:7}")
+    private int cellPrecision;
+
+    @Value("${custom.geocode.memory-ttl-ms:86400000}")
+    private long memoryTtlMs;
+
+    @Value("${custom.geocode.db-ttl-ms:2592000000}")
+    private long dbTtlMs;
+
+    @Value("${custom.geocode.max-entries:100000}")
+    private int maxEntries;
+
+    // cell → 주소 (access-order LRU)
+    private final Map<String, CachedAddress> memory = Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedAddress>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedAddress> eldest) {
+                    return size() > maxEntries;
+                }
+            });
+
+    // cell → 진행 중인 조회
+    private final Map<String, CompletableFuture<String>> inflight = new ConcurrentHashMap<>();
+
+    /**
+     * 좌표의 주소를 반환합니다. (조회 실패 시 null)
+     */
+    public String getAddress(double lng, double lat) {
+        String cell = GeoUtil.geohash(lat, lng, cellPrecision);
+
+        CachedAddress cached = memory.get(cell);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.address();
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inflight.putIfAbsent(cell, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        try {
+            String address = load(cell);
+            mine.complete(address);
+            return address;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(cell, mine);
+        }
+    }
+
+    private String load(String cell) {
+        LocalDateTime now = LocalDateTime.now();
+
+        GeocodeCacheEntity stored = geocodeCacheRepository.findById(cell).orElse(null);
+        if (stored != null && stored.getUpdatedAt().isAfter(now.minusNanos(dbTtlMs * 1_000_000L))) {
+            remember(cell, stored.getAddress());
+            return stored.getAddress();
+        }
+
+        double[] center = GeoUtil.geohashCenter(cell);
+        String address = geocodingUtil.getAddressFromCoordinates(center[1], center[0]);
+        if (address == null) {
+            return null;
+        }
+
+        remember(cell, address);
+        try {
+            geocodeCacheRepository.save(GeocodeCacheEntity.builder()
+                    .cell(cell)
+                    .address(address)
+                    .updatedAt(now)
+                    .build());
+        } catch (Exception e) {
+            // 다른 인스턴스가 같은 셀을 먼저 저장한 경우 등 → 메모리 캐시만으로 충분
+            log.info("geocode_cache 저장 실패 cell={} err={}", cell, e.getMessage());
+        }
+        return address;
+    }
+
+    private void remember(String cell, String address) {
+        memory.put(cell, new CachedAddress(address, System.currentTimeMillis() + memoryTtlMs));
+    }
+
+    private record CachedAddress(String address, long expiresAt) {
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.nokasegu.post_here.location.service;
+
+import io.github.nokasegu.post_here.location.repository.UserLastLocationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserLastLocationStore
+ * <p>
+ * 역할
+ * - 사용자별 마지막 위치를 user_last_location 에 기록합니다. (fin'd 생성 시 근처 팔로워 조회용)
+ * <p>
+ * 쓰기 모음(coalescing)
+ * - record() 는 메모리의 pending 만 덮어쓰고, flush-interval-ms 마다 사용자당 마지막 좌표 1건만 upsert 합니다.
+ * → 핑이 아무리 잦아도 사용자당 쓰기는 주기당 최대 1회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserLastLocationStore {
+
+    private final UserLastLocationRepository userLastLocationRepository;
+
+    // userId → {lng, lat, epochMillis}
+    private final Map<Long, double[]> pending = new ConcurrentHashMap<>();
+
+    public void record(Long userId, double lng, double lat) {
+        if (userId == null) return;
+        pending.put(userId, new double[]{lng, lat, System.currentTimeMillis()});
+    }
+
+    @Scheduled(fixedDelayString = "${custom.location.last-location.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        List<Long> userIds = new ArrayList<>(pending.keySet());
+        int written = 0;
+        for (Long userId : userIds) {
+            double[] pos = pending.remove(userId);
+            if (pos == null) continue;
+            try {
+                userLastLocationRepository.upsert(userId, pos[0], pos[1], LocalDateTime.now());
+                written++;
+            } catch (Exception e) {
+                log.warn("[LAST-LOCATION] upsert failed user={} err={}", userId, e.toString());
+            }
+        }
+        log.debug("[LAST-LOCATION] flushed {} users", written);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
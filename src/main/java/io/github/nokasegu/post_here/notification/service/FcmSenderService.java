@@ -25,6 +25,9 @@ import java.util.*;
 @RequiredArgsConstructor
 public class FcmSenderService {
 
+    // FCM 멀티캐스트 1회 최대 토큰 수
+    private static final int MULTICAST_LIMIT = 500;
+
     private final FirebaseMessaging firebaseMessaging;
 
     private static String tail(String token) {
@@ -213,6 +216,21 @@ public class FcmSenderService {
         sendToTokens(tokens, title, body, null);
     }
 
+    /**
+     * 같은 문구의 fin'd 알림을 여러 사용자에게 멀티캐스트로 발송 (요청당 최대 500 토큰)
+     */
+    public void sendFindNotification(Collection<UserInfoEntity> targetUsers, String body) {
+        String title = "fin'd";
+
+        List<String> tokens = new ArrayList<>();
+        for (UserInfoEntity targetUser : targetUsers) {
+            tokens.addAll(resolveFcmTokens(targetUser));
+        }
+        for (int from = 0; from < tokens.size(); from += MULTICAST_LIMIT) {
+            sendToTokens(tokens.subList(from, Math.min(from + MULTICAST_LIMIT, tokens.size())), title, body, null);
+        }
+    }
+
     public FcmBatchResult sendComment(Collection<String> targetTokens, String actorNickname, String postTitle, Long postId) {
         String title = "새 댓글";
         String body = actorNickname + " 님이 \"" + postTitle + "\"에 댓글을 달았습니다.";
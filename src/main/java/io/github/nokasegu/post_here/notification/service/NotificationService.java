@@ -329,4 +329,21 @@ public class NotificationService {
 
         notificationRepository.save(notification);
     }
+
+    /**
+     * FIND_FOUND 알림을 여러 사용자에게 한 번에 저장 (fin'd 생성 시 근처 팔로워 알림)
+     */
+    @Transactional
+    public void createFindAll(List<UserInfoEntity> targets, String message) {
+        List<NotificationEntity> notifications = new ArrayList<>(targets.size());
+        for (UserInfoEntity target : targets) {
+            notifications.add(NotificationEntity.builder()
+                    .notificationCode(NotificationCode.FIND_FOUND)
+                    .targetUser(target)
+                    .messageForFind(message)
+                    .checkStatus(false)
+                    .build());
+        }
+        notificationRepository.saveAll(notifications);
+    }
 }
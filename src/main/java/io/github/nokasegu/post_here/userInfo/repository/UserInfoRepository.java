@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -40,4 +41,8 @@ public interface UserInfoRepository extends JpaRepository<UserInfoEntity, Long>
 
     // 닉네임으로 사용자를 찾는 메서드
     public Optional<UserInfoEntity> findByNickname(String nickname);
-}
\ No newline at end of file
+
+    // 전체 사용자 순회용: afterId 다음 사용자 id 한 묶음 (포럼 타임라인 전체 재구성)
+    @Query("SELECT u.id FROM UserInfoEntity u WHERE u.id > :afterId ORDER BY u.id ASC")
+    public List<Long> findIdChunk(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -4,6 +4,8 @@ import BackgroundGeolocation from '@transistorsoft/capacitor-background-geolocat
 const serverConfig = require('../../../../SERVER_URL.js');
 
 let isInitialized = false;
+let currentDistanceFilter = 30;
+// 네이티브 HTTP 요청에는 세션이 없으므로 비로그인으로도 받는 /location 사용 (/location/tick 은 로그인 필요)
 const url = serverConfig.url + '/location';
 
 
@@ -55,6 +57,8 @@ export async function initBackgroundGeolocation() {
                     }
                 });
                 window.dispatchEvent(event);
+
+                await applyPingHint(data);
             }
         } catch (e) {
             console.error("서버 응답 파싱 실패", e);
@@ -148,6 +152,32 @@ export async function initBackgroundGeolocation() {
     }
 }
 
+/**
+ * 서버가 내려준 다음 핑 힌트(nearestFindMeters, nextPingDelayMs)로 추적 간격을 조정합니다.
+ * - 가까운 fin'd 가 없으면 이동 거리 기준을 늘려 핑을 줄이고, 가까워지면 다시 촘촘하게 보냅니다.
+ */
+async function applyPingHint(data) {
+    if (data.nextPingDelayMs == null) return;
+
+    const nearest = data.nearestFindMeters;
+    const distanceFilter = (nearest == null)
+        ? 200
+        : Math.max(10, Math.min(200, Math.round(nearest / 3)));
+
+    if (distanceFilter === currentDistanceFilter) return;
+    currentDistanceFilter = distanceFilter;
+
+    try {
+        await BackgroundGeolocation.setConfig({
+            distanceFilter: distanceFilter,
+            locationUpdateInterval: data.nextPingDelayMs // Android 전용
+        });
+        console.log('[ping-hint] distanceFilter:', distanceFilter, 'delay:', data.nextPingDelayMs);
+    } catch (e) {
+        console.error('[ping-hint] 설정 변경 실패', e);
+    }
+}
+
 /**
  * 백그라운드 위치 추적을 중지하는 함수
  */
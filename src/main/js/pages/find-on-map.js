@@ -171,5 +171,63 @@ export function initFindOnMap() {
         });
     }
 
+    // 6. 지도를 축소하면(줌 < CLUSTER_MAX_ZOOM) 화면 영역의 fin'd 를 클러스터로 표시합니다.
+    const CLUSTER_MAX_ZOOM = 15;
+    let clusterMarkers = [];
+    let clusterRequestSeq = 0;
+
+    function clearClusters() {
+        clusterMarkers.forEach(m => m.setMap(null));
+        clusterMarkers = [];
+    }
+
+    map.addListener('idle', () => {
+        const zoom = map.getZoom();
+        const bounds = map.getBounds();
+        if (!bounds || zoom > CLUSTER_MAX_ZOOM) {
+            clearClusters();
+            return;
+        }
+
+        const sw = bounds.getSouthWest();
+        const ne = bounds.getNorthEast();
+        const params = new URLSearchParams({
+            minLat: sw.lat(), minLng: sw.lng(), maxLat: ne.lat(), maxLng: ne.lng(), zoom: zoom
+        });
+        const seq = ++clusterRequestSeq;
+
+        fetch(`/find/clusters?${params}`)
+            .then(response => {
+                if (!response.ok) throw new Error('Network response was not ok');
+                return response.json();
+            })
+            .then(data => {
+                if (seq !== clusterRequestSeq) return; // 더 최근 요청이 있으면 무시
+                clearClusters();
+                data.data.forEach(cluster => {
+                    const marker = new google.maps.Marker({
+                        position: {lat: cluster.lat, lng: cluster.lng},
+                        map: map,
+                        label: {text: String(cluster.count), color: 'white', fontWeight: 'bold'},
+                        icon: {
+                            path: google.maps.SymbolPath.CIRCLE,
+                            scale: 14 + Math.min(10, Math.log2(cluster.count) * 2),
+                            fillColor: "#6C8B52",
+                            fillOpacity: 0.9,
+                            strokeWeight: 2,
+                            strokeColor: "white"
+                        }
+                    });
+                    // 클러스터를 누르면 해당 위치로 확대
+                    marker.addListener('click', () => {
+                        map.setCenter({lat: cluster.lat, lng: cluster.lng});
+                        map.setZoom(Math.min(zoom + 2, CLUSTER_MAX_ZOOM + 1));
+                    });
+                    clusterMarkers.push(marker);
+                });
+            })
+            .catch(error => console.error('Cluster fetch error:', error));
+    });
+
     loadMapWithCurrentPosition();
 }
\ No newline at end of file
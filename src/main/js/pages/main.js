@@ -4,6 +4,18 @@ export async function initMain() {
     let finalAreaKey = null;
     let finalAreaName = null;
 
+    // 게시글 목록 페이지 상태 (최신순 키셋 페이지, 목록 끝의 sentinel 이 보이면 다음 페이지)
+    let currentListKey = null;
+    let nextCursor = null;
+    let loadingPage = false;
+    const pageSentinel = document.createElement('div');
+    pageSentinel.id = 'post-list-sentinel';
+    const pageObserver = new IntersectionObserver(entries => {
+        if (entries[0].isIntersecting && nextCursor && !loadingPage) {
+            fetchPostPage(currentListKey, nextCursor);
+        }
+    }, {rootMargin: '600px'});
+
     // 쿼리 파라미터에서 key 추출
     const urlParams = new URLSearchParams(window.location.search);
     const areaKeyFromUrl = urlParams.get('areaKey');
@@ -248,39 +260,62 @@ export async function initMain() {
         `;
     }
 
-    // 게시글 데이터를 post-card에 저장
+    // 게시글 데이터를 post-card에 저장 (첫 페이지부터 다시)
     function loadPosts(key) {
+        currentListKey = key;
+        nextCursor = null;
+        fetchPostPage(key, null);
+    }
+
+    function fetchPostPage(key, cursor) {
+        loadingPage = true;
         $.ajax({
-            url: `/forum/area/${key}`,
+            url: `/forum/area/${key}/page`,
             type: 'GET',
+            data: cursor ? {cursor: cursor} : {},
             dataType: 'json',
             success: function (result) {
-                const container = $('#post-list-container');
-                container.empty();
+                if (key !== currentListKey) return; // 그사이 지역이 바뀐 경우
 
-                // 빈 목록 상태를 관리하는 클래스를 먼저 제거
-                container.removeClass('empty-list');
-
-                if (result.status === '000' && result.data && result.data.length > 0) {
-                    result.data.sort((a, b) => new Date(b.createdAt) - new Date(a.createdAt));
-                    result.data.forEach(post => {
-                        const postHtml = createPostHtml(post);
-                        const newPostCard = $(postHtml);
-                        newPostCard.data('post-data', post); // 게시글 데이터 저장
-
-                        container.append(newPostCard);
-                        initCarousel(newPostCard);
-                    });
-                } else {
-                    container.addClass('empty-list');
-                    container.html(createEmptyPostHtml());
+                const container = $('#post-list-container');
+                const posts = (result.status === '000' && result.data) ? result.data.posts : [];
+
+                if (!cursor) {
+                    container.empty();
+                    // 빈 목록 상태를 관리하는 클래스를 먼저 제거
+                    container.removeClass('empty-list');
+
+                    if (posts.length === 0) {
+                        nextCursor = null;
+                        container.addClass('empty-list');
+                        container.html(createEmptyPostHtml());
+                        return;
+                    }
                 }
+
+                // 서버가 최신순으로 내려줌
+                posts.forEach(post => {
+                    const postHtml = createPostHtml(post);
+                    const newPostCard = $(postHtml);
+                    newPostCard.data('post-data', post); // 게시글 데이터 저장
+
+                    container.append(newPostCard);
+                    initCarousel(newPostCard);
+                });
+
+                nextCursor = result.data.nextCursor;
+                container.append(pageSentinel); // 항상 목록 맨 끝에 둠
+                pageObserver.observe(pageSentinel);
             },
             error: function () {
+                if (cursor) return; // 다음 페이지 실패는 이미 보이는 목록 유지
                 const container = $('#post-list-container'); //오류 처리에도 컨테이너 참조 추가
                 container.empty();
                 container.addClass('empty-list'); //중앙 정렬 클래스 부여
                 container.html(createEmptyPostHtml());
+            },
+            complete: function () {
+                loadingPage = false;
             }
         });
     }
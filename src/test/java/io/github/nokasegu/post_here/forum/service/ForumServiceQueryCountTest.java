@@ -0,0 +1,144 @@
+package io.github.nokasegu.post_here.forum.service;
+
+import io.github.nokasegu.post_here.forum.domain.ForumAreaEntity;
+import io.github.nokasegu.post_here.forum.domain.ForumEntity;
+import io.github.nokasegu.post_here.forum.domain.ForumImageEntity;
+import io.github.nokasegu.post_here.forum.domain.ForumLikeEntity;
+import io.github.nokasegu.post_here.forum.dto.ForumPostPageDto;
+import io.github.nokasegu.post_here.userInfo.domain.UserInfoEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포럼 카드 목록의 쿼리 수가 페이지 크기와 관계없이 일정한지 확인합니다. (Hibernate Statistics)
+ * - 페이지 크기 1 과 20 을 각각 다른 지역(둘 다 캐시/버퍼가 비어 있는 상태)에서 읽어 JDBC 문장 수를 비교
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ForumService.class, ForumRecentLikers.class})
+class ForumServiceQueryCountTest {
+
+    private static final int POSTS_PER_AREA = 25;
+
+    @MockitoBean
+    private ForumImageService forumImageService;
+
+    @MockitoBean
+    private ForumTimelineService forumTimelineService;
+
+    // 캐시를 거치지 않고 항상 DB 에서 읽도록 (get → null)
+    @MockitoBean
+    private ForumAreaPageCache forumAreaPageCache;
+
+    @Autowired
+    private ForumService forumService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long smallAreaId;
+    private Long largeAreaId;
+    private Long viewerId;
+
+    @BeforeEach
+    void setUp() {
+        UserInfoEntity writer = em.persist(user("writer"));
+        UserInfoEntity viewer = em.persist(user("viewer"));
+        List<UserInfoEntity> likers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            likers.add(em.persist(user("liker" + i)));
+        }
+
+        ForumAreaEntity small = em.persist(ForumAreaEntity.builder().address("서울특별시 강남구 신사동").build());
+        ForumAreaEntity large = em.persist(ForumAreaEntity.builder().address("서울특별시 강남구 논현동").build());
+        seedPosts(small, writer, viewer, likers);
+        seedPosts(large, writer, viewer, likers);
+
+        em.flush();
+        em.clear();
+
+        smallAreaId = small.getId();
+        largeAreaId = large.getId();
+        viewerId = viewer.getId();
+    }
+
+    @Test
+    void 카드_목록_쿼리_수는_페이지_크기와_무관하다() {
+        ForumPostPageDto[] pages = new ForumPostPageDto[2];
+
+        long single = countStatements(() -> pages[0] = forumService.getForumAreaPage(smallAreaId.toString(), null, 1, viewerId));
+        long twenty = countStatements(() -> pages[1] = forumService.getForumAreaPage(largeAreaId.toString(), null, 20, viewerId));
+
+        assertThat(pages[0].getPosts()).hasSize(1);
+        assertThat(pages[1].getPosts()).hasSize(20);
+        assertThat(pages[1].getPosts()).allSatisfy(post -> {
+            assertThat(post.getImageUrls()).hasSize(2);
+            assertThat(post.getRecentLikerPhotos()).hasSize(3);
+        });
+        assertThat(twenty).isEqualTo(single);
+    }
+
+    private long countStatements(Supplier<?> call) {
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        call.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedPosts(ForumAreaEntity area, UserInfoEntity writer, UserInfoEntity viewer, List<UserInfoEntity> likers) {
+        LocalDateTime base = LocalDateTime.now().withNano(0).minusHours(1);
+        for (int i = 0; i < POSTS_PER_AREA; i++) {
+            ForumEntity forum = ForumEntity.builder()
+                    .writer(writer)
+                    .location(area)
+                    .contentsText("post " + i)
+                    .createdAt(base.plusSeconds(i))
+                    .images(new ArrayList<>())
+                    .build();
+            forum.addImage(ForumImageEntity.builder().imgUrl("https://img/" + i + "-a.png").build());
+            forum.addImage(ForumImageEntity.builder().imgUrl("https://img/" + i + "-b.png").build());
+            em.persist(forum);
+
+            for (UserInfoEntity liker : likers) {
+                em.persist(ForumLikeEntity.builder().forum(forum).liker(liker).build());
+            }
+            if (i % 2 == 0) {
+                em.persist(ForumLikeEntity.builder().forum(forum).liker(viewer).build());
+            }
+        }
+    }
+
+    private static UserInfoEntity user(String nickname) {
+        return UserInfoEntity.builder()
+                .email(nickname + "@test.com")
+                .loginPw("pw")
+                .nickname(nickname)
+                .profilePhotoUrl("https://profile/" + nickname + ".png")
+                .build();
+    }
+}
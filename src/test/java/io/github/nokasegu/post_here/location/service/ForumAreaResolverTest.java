@@ -0,0 +1,88 @@
+package io.github.nokasegu.post_here.location.service;
+
+import io.github.nokasegu.post_here.common.config.JtsConfiguration;
+import io.github.nokasegu.post_here.forum.domain.ForumAreaEntity;
+import io.github.nokasegu.post_here.forum.service.ForumService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 행정동 경계 파일만으로(네트워크 없이) 좌표 → forum_area 를 찾는지 확인합니다.
+ * - 경계 파일: src/test/resources/geo/test-adm-dong.geojson (신사동 Polygon, 논현동 MultiPolygon, forum_area 에 없는 압구정동)
+ * - Google 역지오코딩은 끄고(google-fallback=false), 호출되지 않는지도 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "custom.geo.boundary-file=classpath:geo/test-adm-dong.geojson",
+        "custom.geo.google-fallback=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ForumAreaResolver.class, LocationService.class, JtsConfiguration.class})
+class ForumAreaResolverTest {
+
+    @MockitoBean
+    private ReverseGeocodingService reverseGeocodingService;
+
+    @MockitoBean
+    private ForumService forumService;
+
+    @Autowired
+    private ForumAreaResolver forumAreaResolver;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private ForumAreaEntity sinsa;
+    private ForumAreaEntity nonhyeon;
+
+    @BeforeEach
+    void setUp() {
+        sinsa = em.persist(ForumAreaEntity.builder().address("서울특별시 강남구 신사동").build());
+        nonhyeon = em.persist(ForumAreaEntity.builder().address("서울특별시 강남구 논현동").build());
+        em.flush();
+
+        // 테스트에서는 ApplicationReadyEvent 가 발행되지 않으므로 직접 적재
+        forumAreaResolver.load();
+    }
+
+    @Test
+    void 경계_파일만으로_포럼_지역을_찾는다() {
+        assertThat(forumAreaResolver.isReady()).isTrue();
+
+        assertThat(locationService.resolveForumArea(127.022, 37.522).getId()).isEqualTo(sinsa.getId());
+        assertThat(locationService.resolveForumArea(127.038, 37.512).getId()).isEqualTo(nonhyeon.getId());
+
+        verify(reverseGeocodingService, never()).getAddress(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void 포럼_지역이_없는_경계나_경계_밖은_찾지_않는다() {
+        // 압구정동은 경계 파일에만 있고 forum_area 에는 없음
+        assertThat(forumAreaResolver.resolve(127.030, 37.535)).isEmpty();
+        assertThat(forumAreaResolver.resolve(126.900, 37.400)).isEmpty();
+
+        assertThatThrownBy(() -> locationService.resolveForumArea(126.900, 37.400))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(reverseGeocodingService, never()).getAddress(anyDouble(), anyDouble());
+    }
+}